@@ -0,0 +1,84 @@
+package io.sumac.propertyinjector;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.sumac.propertyinjector.sample.Model1;
+import io.sumac.propertyinjector.sample.Model2;
+import io.sumac.propertyinjector.sample.Model3;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessStrategyBenchmark {
+
+	@Param({ "REFLECTION", "METHOD_HANDLES", "COMPILED" })
+	private AccessStrategy strategy;
+
+	private PropertyInjector injector;
+	private Model1 model1;
+	private Model2 model2;
+
+	@Setup
+	public void setup() {
+		Properties props = new Properties();
+		props.put("test.found.string", "hello world");
+		props.put("test.found.boolean", "true");
+		props.put("test.found.int", "32");
+		props.put("test.found.long", "64");
+		props.put("test.found.double", "2.2");
+		props.put("test.found.float", "1.1");
+		injector = PropertyInjector.fromProperties(props).withAccessStrategy(strategy);
+		model1 = new Model1();
+		model2 = new Model2();
+	}
+
+	@Benchmark
+	public Object toFields() {
+		return injector.to(Model1.class);
+	}
+
+	@Benchmark
+	public Object toMethods() {
+		return injector.to(Model2.class);
+	}
+
+	@Benchmark
+	public Object toParameters() {
+		return injector.to(Model3.class);
+	}
+
+	@Benchmark
+	public Object fillInFields() {
+		injector.fillIn(model1);
+		return model1;
+	}
+
+	@Benchmark
+	public Object fillInMethods() {
+		injector.fillIn(model2);
+		return model2;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(AccessStrategyBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,101 @@
+package io.sumac.propertyinjector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.sumac.propertyinjector.sample.Model25;
+
+/**
+ * Large delimited values: the single scan of {@link Delimited} against
+ * {@code String.split} with {@code parseInt}, and a whole {@code fillIn} of
+ * {@link Model25} with {@code size} elements per property.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionInjectionBenchmark {
+
+	@Param({ "100", "5000" })
+	private int size;
+
+	private String value;
+	private PropertyInjector injector;
+	private Model25 model;
+
+	@Setup
+	public void setup() {
+		StringBuilder ids = new StringBuilder();
+		for (int i = 0; i < size; i++) {
+			ids.append(i == 0 ? "" : ", ").append(100000 + i * 7);
+		}
+		value = ids.toString();
+		Properties props = new Properties();
+		for (String name : new String[] { "test.strings", "test.set", "test.integers", "test.ints", "test.longs" }) {
+			props.put(name, value);
+		}
+		injector = PropertyInjector.fromProperties(props);
+		model = new Model25();
+	}
+
+	@Benchmark
+	public int[] intsDelimited() {
+		return Delimited.ints(value);
+	}
+
+	@Benchmark
+	public int[] intsSplit() {
+		String[] parts = value.split(",");
+		int[] ints = new int[parts.length];
+		for (int i = 0; i < parts.length; i++) {
+			ints[i] = Integer.parseInt(parts[i].trim());
+		}
+		return ints;
+	}
+
+	@Benchmark
+	public List<String> stringsDelimited() {
+		return Delimited.strings(value);
+	}
+
+	@Benchmark
+	public List<String> stringsSplit() {
+		String[] parts = value.split("\\s*,\\s*");
+		List<String> strings = new ArrayList<>(parts.length);
+		for (String part : parts) {
+			strings.add(part);
+		}
+		return strings;
+	}
+
+	@Benchmark
+	public Object fillInCollections() {
+		injector.fillIn(model);
+		return model;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(CollectionInjectionBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class).build()).run();
+	}
+}
@@ -0,0 +1,147 @@
+package io.sumac.propertyinjector;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The built-in converters against the usual hand-rolled alternatives: a
+ * precompiled regular expression for durations and data sizes, and
+ * {@link Enum#valueOf} retried in upper case when it throws.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+
+	private static final Pattern DURATION = Pattern.compile("\\s*(\\d+)\\s*(ns|us|ms|s|m|h|d)\\s*",
+			Pattern.CASE_INSENSITIVE);
+	private static final Pattern DATA_SIZE = Pattern.compile("\\s*(\\d+)\\s*(B|KB|MB|GB|TB|KiB|MiB|GiB|TiB)?\\s*",
+			Pattern.CASE_INSENSITIVE);
+
+	private final TypeConverter<?> enums = EnumConverter.of(TimeUnit.class);
+	private String duration = "250ms";
+	private String dataSize = "64MiB";
+	private String exactName = "MILLISECONDS";
+	private String lowerCaseName = "milliseconds";
+
+	@Benchmark
+	public Duration durationParser() {
+		return Units.parseDuration(duration);
+	}
+
+	@Benchmark
+	public Duration durationRegex() {
+		Matcher matcher = DURATION.matcher(duration);
+		if (!matcher.matches()) {
+			throw new IllegalArgumentException(duration);
+		}
+		long amount = Long.parseLong(matcher.group(1));
+		switch (matcher.group(2).toLowerCase(Locale.ROOT)) {
+		case "ns":
+			return Duration.ofNanos(amount);
+		case "us":
+			return Duration.ofNanos(amount * 1_000);
+		case "ms":
+			return Duration.ofMillis(amount);
+		case "s":
+			return Duration.ofSeconds(amount);
+		case "m":
+			return Duration.ofMinutes(amount);
+		case "h":
+			return Duration.ofHours(amount);
+		default:
+			return Duration.ofDays(amount);
+		}
+	}
+
+	@Benchmark
+	public long dataSizeParser() {
+		return Units.parseBytes(dataSize);
+	}
+
+	@Benchmark
+	public long dataSizeRegex() {
+		Matcher matcher = DATA_SIZE.matcher(dataSize);
+		if (!matcher.matches()) {
+			throw new IllegalArgumentException(dataSize);
+		}
+		long amount = Long.parseLong(matcher.group(1));
+		String unit = matcher.group(2);
+		if (unit == null) {
+			return amount;
+		}
+		switch (unit.toLowerCase(Locale.ROOT)) {
+		case "kb":
+			return amount * 1_000L;
+		case "mb":
+			return amount * 1_000_000L;
+		case "gb":
+			return amount * 1_000_000_000L;
+		case "tb":
+			return amount * 1_000_000_000_000L;
+		case "kib":
+			return amount << 10;
+		case "mib":
+			return amount << 20;
+		case "gib":
+			return amount << 30;
+		case "tib":
+			return amount << 40;
+		default:
+			return amount;
+		}
+	}
+
+	@Benchmark
+	public Object enumTable() {
+		return enums.convert(exactName);
+	}
+
+	@Benchmark
+	public Object enumValueOf() {
+		return valueOf(exactName);
+	}
+
+	@Benchmark
+	public Object enumTableOtherCase() {
+		return enums.convert(lowerCaseName);
+	}
+
+	@Benchmark
+	public Object enumValueOfOtherCase() {
+		return valueOf(lowerCaseName);
+	}
+
+	private static TimeUnit valueOf(String name) {
+		try {
+			return TimeUnit.valueOf(name);
+		} catch (IllegalArgumentException e) {
+			return TimeUnit.valueOf(name.toUpperCase(Locale.ROOT));
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(ConverterBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class).build()).run();
+	}
+}
@@ -0,0 +1,68 @@
+package io.sumac.propertyinjector;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.sumac.propertyinjector.sample.Model35;
+import io.sumac.propertyinjector.sample.Model36;
+
+/**
+ * A five level hierarchy ({@code Model31} to {@code Model35}) against a flat
+ * class with the same bindings ({@code Model36}). Both are flattened into one
+ * cached plan, so once it is built the two should cost the same with every
+ * access strategy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HierarchyBenchmark {
+
+	@Param({ "REFLECTION", "METHOD_HANDLES", "COMPILED" })
+	private AccessStrategy strategy;
+
+	private PropertyInjector injector;
+
+	@Setup
+	public void setup() {
+		Properties props = new Properties();
+		props.put("test.found.string", "hello world");
+		props.put("test.found.boolean", "true");
+		props.put("test.found.int", "32");
+		props.put("test.found.long", "64");
+		props.put("test.found.double", "2.2");
+		props.put("test.found.float", "1.1");
+		injector = PropertyInjector.fromProperties(props).withAccessStrategy(strategy);
+	}
+
+	@Benchmark
+	public Model35 hierarchy() {
+		return injector.to(Model35.class);
+	}
+
+	@Benchmark
+	public Model36 flat() {
+		return injector.to(Model36.class);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(HierarchyBenchmark.class.getSimpleName()).build()).run();
+	}
+}
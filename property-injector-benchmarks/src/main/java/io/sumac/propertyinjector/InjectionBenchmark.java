@@ -0,0 +1,106 @@
+package io.sumac.propertyinjector;
+
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.sumac.propertyinjector.sample.Model1;
+import io.sumac.propertyinjector.sample.Model2;
+import io.sumac.propertyinjector.sample.Model3;
+import io.sumac.propertyresolver.PropertyResolver;
+
+/**
+ * The public entry points, with one injector shared by all threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InjectionBenchmark {
+
+	@Param({ "PROPERTIES", "PROPERTY_RESOLVER" })
+	private String source;
+
+	private PropertyInjector injector;
+	private PropertyInjector cached;
+
+	@Setup
+	public void setup() {
+		if ("PROPERTIES".equals(source)) {
+			Properties props = new Properties();
+			props.put("test.found.string", "hello world");
+			props.put("test.found.boolean", "true");
+			props.put("test.found.int", "32");
+			props.put("test.found.long", "64");
+			props.put("test.found.double", "2.2");
+			props.put("test.found.float", "1.1");
+			injector = PropertyInjector.fromProperties(props);
+		} else {
+			injector = PropertyInjector.fromPropertyResolver(
+					PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties").build());
+		}
+		cached = injector.cached();
+	}
+
+	@State(Scope.Thread)
+	public static class Target {
+
+		private final Model1 model = new Model1();
+	}
+
+	@Benchmark
+	public Model1 toFields() {
+		return injector.to(Model1.class);
+	}
+
+	@Benchmark
+	public Model2 toSetters() {
+		return injector.to(Model2.class);
+	}
+
+	@Benchmark
+	public Model3 toConstructor() {
+		return injector.to(Model3.class);
+	}
+
+	@Benchmark
+	public Model1 toCached() {
+		return cached.to(Model1.class);
+	}
+
+	@Benchmark
+	public Model1 fillIn(Target target) {
+		injector.fillIn(target.model);
+		return target.model;
+	}
+
+	@Benchmark
+	public Set<String> fillInChanged(Target target) {
+		return injector.fillInChanged(target.model);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		for (int threads : new int[] { 1, 4, 16 }) {
+			new Runner(new OptionsBuilder().include(InjectionBenchmark.class.getSimpleName()).threads(threads)
+					.addProfiler(GCProfiler.class).build()).run();
+		}
+	}
+}
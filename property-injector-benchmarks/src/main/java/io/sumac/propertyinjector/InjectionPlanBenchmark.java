@@ -0,0 +1,90 @@
+package io.sumac.propertyinjector;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.sumac.propertyinjector.sample.Model1;
+import io.sumac.propertyinjector.sample.Model3;
+import io.sumac.propertyresolver.PropertyResolver;
+
+/**
+ * Compares injection through the cached {@link InjectionPlan} with building
+ * the plan on every call, which is what {@link PropertyInjector} used to do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InjectionPlanBenchmark {
+
+	private PropertySource source;
+	private PropertyInjector injector;
+	private Model1 model1;
+
+	@Setup
+	public void setup() {
+		Properties props = new Properties();
+		props.put("test.found.string", "hello world");
+		props.put("test.found.boolean", "true");
+		props.put("test.found.int", "32");
+		props.put("test.found.long", "64");
+		props.put("test.found.double", "2.2");
+		props.put("test.found.float", "1.1");
+		PropertyResolver resolver = PropertyResolver.registerProviders().useProperties(props).build();
+		source = PropertySource.of(resolver);
+		injector = PropertyInjector.fromPropertyResolver(resolver);
+		model1 = new Model1();
+	}
+
+	@Benchmark
+	public Object toFields_cachedPlan() {
+		return injector.to(Model1.class);
+	}
+
+	@Benchmark
+	public Object toFields_uncachedPlan() throws Exception {
+		return InjectionPlan.build(Model1.class).construct(source, AccessStrategy.REFLECTION);
+	}
+
+	@Benchmark
+	public Object toParameters_cachedPlan() {
+		return injector.to(Model3.class);
+	}
+
+	@Benchmark
+	public Object toParameters_uncachedPlan() throws Exception {
+		return InjectionPlan.build(Model3.class).construct(source, AccessStrategy.REFLECTION);
+	}
+
+	@Benchmark
+	public Object fillIn_cachedPlan() {
+		injector.fillIn(model1);
+		return model1;
+	}
+
+	@Benchmark
+	public Object fillIn_uncachedPlan() throws Exception {
+		InjectionPlan.build(Model1.class).fillIn(model1, source, AccessStrategy.REFLECTION);
+		return model1;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(InjectionPlanBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,102 @@
+package io.sumac.propertyinjector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jol.info.GraphLayout;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+/**
+ * Injecting one small config object per tenant whose string values repeat
+ * across tenants, with and without {@link PropertyInjector#interning()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterningBenchmark {
+
+	private static final String[] HOSTS = { "shard-0.eu.example.com", "shard-1.eu.example.com",
+			"shard-0.us.example.com", "shard-1.us.example.com" };
+	private static final String[] REGIONS = { "eu-west-1", "us-east-1" };
+	private static final String[] MODES = { "active", "standby", "read-only" };
+
+	@Param({ "false", "true" })
+	private boolean interning;
+
+	@Param({ "10000" })
+	private int tenants;
+
+	private PropertySnapshot snapshot;
+	private PropertyInjector injector;
+
+	public static class Tenant {
+
+		@Property(name = "host")
+		String host;
+		@Property(name = "region")
+		String region;
+		@Property(name = "mode")
+		String mode;
+	}
+
+	@Setup
+	public void setup() {
+		Properties props = new Properties();
+		for (int i = 0; i < tenants; i++) {
+			props.put("tenant-" + i + ".host", new String(HOSTS[i % HOSTS.length]));
+			props.put("tenant-" + i + ".region", new String(REGIONS[i % REGIONS.length]));
+			props.put("tenant-" + i + ".mode", new String(MODES[i % MODES.length]));
+		}
+		snapshot = PropertySnapshot.of(props);
+		injector = PropertyInjector.fromSnapshot(snapshot);
+		if (interning) {
+			injector = injector.interning();
+		}
+	}
+
+	@Benchmark
+	public List<Tenant> injectAll() {
+		List<Tenant> output = new ArrayList<>(tenants);
+		for (int i = 0; i < tenants; i++) {
+			String prefix = "tenant-" + i + ".";
+			output.add(injector.withSource(name -> snapshot.getString(prefix + name)).to(Tenant.class));
+		}
+		return output;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		for (boolean interning : new boolean[] { false, true }) {
+			InterningBenchmark benchmark = new InterningBenchmark();
+			benchmark.interning = interning;
+			benchmark.tenants = 10000;
+			benchmark.setup();
+			List<Tenant> output = benchmark.injectAll();
+			System.out.println("interning=" + interning + ": "
+					+ GraphLayout.parseInstance(output).totalSize() + " bytes retained by " + output.size()
+					+ " tenants");
+		}
+		new Runner(new OptionsBuilder().include(InterningBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class).build()).run();
+	}
+}
@@ -0,0 +1,89 @@
+package io.sumac.propertyinjector;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Opening a large properties file and reading one key from it:
+ * {@link Properties#load}, {@link PropertySnapshot#load} and
+ * {@link MappedPropertySource#open}. Run with {@code -prof gc} to compare
+ * the allocation per open, most of which stays resident.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappedFileBenchmark {
+
+	@Param({ "10000", "200000" })
+	private int size;
+
+	private Path file;
+	private String key;
+
+	@Setup
+	public void setup() throws IOException {
+		file = Files.createTempFile("routing", ".properties");
+		try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.ISO_8859_1)) {
+			for (int i = 0; i < size; i++) {
+				writer.write("routing.tenant-" + i + ".endpoint=https://shard-" + (i % 64) + ".example.com/api/v2\n");
+			}
+		}
+		key = "routing.tenant-" + (size / 2) + ".endpoint";
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.delete(file);
+	}
+
+	@Benchmark
+	public String properties() throws IOException {
+		Properties properties = new Properties();
+		try (InputStream in = Files.newInputStream(file)) {
+			properties.load(in);
+		}
+		return properties.getProperty(key);
+	}
+
+	@Benchmark
+	public Optional<String> snapshot() {
+		return PropertySnapshot.load(file).getString(key);
+	}
+
+	@Benchmark
+	public Optional<String> mapped() {
+		return MappedPropertySource.open(file).getString(key);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(MappedFileBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class).build()).run();
+	}
+}
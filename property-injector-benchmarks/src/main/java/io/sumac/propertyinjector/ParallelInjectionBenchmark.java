@@ -0,0 +1,91 @@
+package io.sumac.propertyinjector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.sumac.propertyinjector.sample.Model1;
+import io.sumac.propertyinjector.sample.Model2;
+
+/**
+ * Scaling of the parallel batch operations with the size of the fork/join
+ * pool. {@code threads = 0} is the sequential batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelInjectionBenchmark {
+
+	@Param({ "0", "1", "2", "4", "8" })
+	private int threads;
+
+	@Param({ "10000" })
+	private int size;
+
+	private ForkJoinPool pool;
+	private PropertyInjector injector;
+	private List<Object> models;
+
+	@Setup
+	public void setup() {
+		Properties props = new Properties();
+		props.put("test.found.string", "hello world");
+		props.put("test.found.boolean", "true");
+		props.put("test.found.int", "32");
+		props.put("test.found.long", "64");
+		props.put("test.found.double", "2.2");
+		props.put("test.found.float", "1.1");
+		injector = PropertyInjector.fromProperties(props);
+		if (threads > 0) {
+			pool = new ForkJoinPool(threads);
+			injector = injector.parallel(pool);
+		}
+		models = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			models.add(i % 2 == 0 ? new Model1() : new Model2());
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		if (pool != null) {
+			pool.shutdown();
+		}
+	}
+
+	@Benchmark
+	public Object fillInAll() {
+		injector.fillInAll(models);
+		return models;
+	}
+
+	@Benchmark
+	public Object to_count() {
+		return injector.to(Model1.class, size);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(ParallelInjectionBenchmark.class.getSimpleName()).build()).run();
+	}
+}
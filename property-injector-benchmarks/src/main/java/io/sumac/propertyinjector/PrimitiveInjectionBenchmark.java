@@ -0,0 +1,70 @@
+package io.sumac.propertyinjector;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.sumac.propertyinjector.sample.Model20;
+
+/**
+ * Allocation per {@code fillIn} of five primitive fields. Run with the GC
+ * profiler ({@code -prof gc}) and compare {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveInjectionBenchmark {
+
+	@Param({ "REFLECTION", "METHOD_HANDLES", "COMPILED" })
+	private AccessStrategy strategy;
+
+	@Param({ "false", "true" })
+	private boolean valueCache;
+
+	private PropertyInjector injector;
+	private Model20 model;
+
+	@Setup
+	public void setup() {
+		Properties props = new Properties();
+		props.put("test.found.boolean", "true");
+		props.put("test.found.int", "123456");
+		props.put("test.found.long", "1234567890123");
+		props.put("test.found.double", "2.2");
+		props.put("test.found.float", "1.1");
+		injector = PropertyInjector.fromProperties(props).withAccessStrategy(strategy);
+		if (valueCache) {
+			injector = injector.withValueCache(64);
+		}
+		model = new Model20();
+	}
+
+	@Benchmark
+	public Object fillInPrimitives() {
+		injector.fillIn(model);
+		return model;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(PrimitiveInjectionBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class).build()).run();
+	}
+}
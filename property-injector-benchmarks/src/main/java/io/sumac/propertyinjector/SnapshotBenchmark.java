@@ -0,0 +1,77 @@
+package io.sumac.propertyinjector;
+
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.sumac.propertyinjector.sample.Model1;
+
+/**
+ * Throughput of concurrent {@code to} calls sharing one injector:
+ * {@code fromProperties} (through the resolver), a source reading the
+ * synchronized {@link Properties} directly, and {@code fromSnapshot}. Run
+ * with {@code -t} to vary the number of threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class SnapshotBenchmark {
+
+	@Param({ "RESOLVER", "PROPERTIES", "SNAPSHOT" })
+	private String source;
+
+	private PropertyInjector injector;
+
+	@Setup
+	public void setup() {
+		Properties props = new Properties();
+		props.put("test.found.string", "hello world");
+		props.put("test.found.boolean", "true");
+		props.put("test.found.int", "32");
+		props.put("test.found.long", "64");
+		props.put("test.found.double", "2.2");
+		props.put("test.found.float", "1.1");
+		switch (source) {
+		case "RESOLVER":
+			injector = PropertyInjector.fromProperties(props);
+			break;
+		case "PROPERTIES":
+			injector = PropertyInjector.fromPropertySource(name -> Optional.ofNullable(props.getProperty(name)));
+			break;
+		default:
+			injector = PropertyInjector.fromSnapshot(PropertySnapshot.of(props));
+		}
+	}
+
+	@Benchmark
+	public Model1 to() {
+		return injector.to(Model1.class);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		for (int threads : new int[] { 1, 4, 16 }) {
+			new Runner(new OptionsBuilder().include(SnapshotBenchmark.class.getSimpleName()).threads(threads).build())
+					.run();
+		}
+	}
+}
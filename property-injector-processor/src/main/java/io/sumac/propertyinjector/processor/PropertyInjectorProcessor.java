@@ -0,0 +1,415 @@
+package io.sumac.propertyinjector.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.StandardLocation;
+
+import io.sumac.propertyinjector.PropertyIndex;
+import io.sumac.propertyinjector.annotations.Property;
+import io.sumac.propertyinjector.annotations.PropertyPrefix;
+
+/**
+ * Writes a {@code <Model>Injector} next to every class with {@link Property}
+ * members that can be injected without reflection, and the
+ * {@link PropertyIndex} of all bound classes.
+ */
+public class PropertyInjectorProcessor extends AbstractProcessor {
+
+	static final String SUFFIX = "Injector";
+
+	private final Map<String, List<String>> index = new TreeMap<>();
+	private final List<TypeElement> indexed = new ArrayList<>();
+
+	/**
+	 * Every type, so that subclasses which only inherit their bindings are
+	 * indexed too.
+	 */
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Collections.singleton("*");
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (roundEnv.processingOver()) {
+			writeIndex();
+			return false;
+		}
+		for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+			addAllToIndex(type);
+		}
+		Set<TypeElement> types = new LinkedHashSet<>();
+		for (Element element : roundEnv.getElementsAnnotatedWith(Property.class)) {
+			Element enclosing = element.getKind() == ElementKind.PARAMETER ? element.getEnclosingElement()
+					: element;
+			types.add((TypeElement) enclosing.getEnclosingElement());
+		}
+		for (TypeElement type : types) {
+			Optional<String> reason = unsupportedReason(type);
+			if (reason.isPresent()) {
+				processingEnv.getMessager().printMessage(Kind.NOTE,
+						"No injector generated, reflection will be used: " + reason.get(), type);
+			} else {
+				write(type);
+			}
+		}
+		return false;
+	}
+
+	private Optional<String> unsupportedReason(TypeElement type) {
+		if (type.getModifiers().contains(Modifier.PRIVATE) || type.getModifiers().contains(Modifier.ABSTRACT)) {
+			return Optional.of("class is private or abstract");
+		}
+		if (!isTopLevelOrStatic(type)) {
+			return Optional.of("class is not top level or static");
+		}
+		List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+		if (constructors.size() > 1) {
+			return Optional.of("too many constructors");
+		}
+		ExecutableElement constructor = constructors.get(0);
+		if (constructor.getModifiers().contains(Modifier.PRIVATE)) {
+			return Optional.of("constructor is private");
+		}
+		for (VariableElement parameter : constructor.getParameters()) {
+			Optional<String> reason = unsupportedSlot(parameter, parameter.asType());
+			if (reason.isPresent()) {
+				return reason;
+			}
+		}
+		for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+			if (field.getAnnotation(PropertyPrefix.class) != null) {
+				return Optional.of("field " + field.getSimpleName() + " is a nested @PropertyPrefix field");
+			}
+		}
+		for (TypeElement superclass : superclasses(type)) {
+			if (hasBindings(superclass)) {
+				return Optional.of("superclass " + superclass.getQualifiedName() + " has @Property members");
+			}
+		}
+		for (VariableElement field : annotatedFields(type)) {
+			Set<Modifier> modifiers = field.getModifiers();
+			if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.FINAL)
+					|| modifiers.contains(Modifier.STATIC)) {
+				return Optional.of("field " + field.getSimpleName() + " is private, final or static");
+			}
+			Optional<String> reason = unsupportedSlot(field, field.asType());
+			if (reason.isPresent()) {
+				return reason;
+			}
+		}
+		for (ExecutableElement method : annotatedMethods(type)) {
+			Set<Modifier> modifiers = method.getModifiers();
+			if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC)) {
+				return Optional.of("method " + method.getSimpleName() + " is private or static");
+			}
+			if (method.getParameters().size() != 1) {
+				return Optional.of("method " + method.getSimpleName() + " does not take one argument");
+			}
+			Optional<String> reason = unsupportedSlot(method, method.getParameters().get(0).asType());
+			if (reason.isPresent()) {
+				return reason;
+			}
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * The superclasses of {@code type} below {@code Object}, nearest first.
+	 */
+	private List<TypeElement> superclasses(TypeElement type) {
+		List<TypeElement> superclasses = new ArrayList<>();
+		Element superclass = processingEnv.getTypeUtils().asElement(type.getSuperclass());
+		while (superclass instanceof TypeElement
+				&& !((TypeElement) superclass).getQualifiedName().contentEquals(Object.class.getName())) {
+			superclasses.add((TypeElement) superclass);
+			superclass = processingEnv.getTypeUtils().asElement(((TypeElement) superclass).getSuperclass());
+		}
+		return superclasses;
+	}
+
+	/**
+	 * Indexes {@code type} and its member types, if they have bindings.
+	 */
+	private void addAllToIndex(TypeElement type) {
+		if (hasBindings(type) || hasConstructorBindings(type)) {
+			addToIndex(type);
+		} else {
+			for (TypeElement superclass : superclasses(type)) {
+				if (hasBindings(superclass)) {
+					addToIndex(type);
+					break;
+				}
+			}
+		}
+		for (TypeElement member : ElementFilter.typesIn(type.getEnclosedElements())) {
+			addAllToIndex(member);
+		}
+	}
+
+	private static boolean hasConstructorBindings(TypeElement type) {
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+			for (VariableElement parameter : constructor.getParameters()) {
+				if (parameter.getAnnotation(Property.class) != null) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static boolean hasBindings(TypeElement type) {
+		for (Element element : type.getEnclosedElements()) {
+			if (element.getAnnotation(Property.class) != null || element.getAnnotation(PropertyPrefix.class) != null) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isTopLevelOrStatic(TypeElement type) {
+		return type.getNestingKind() == NestingKind.TOP_LEVEL
+				|| type.getNestingKind() == NestingKind.MEMBER && type.getModifiers().contains(Modifier.STATIC);
+	}
+
+	/**
+	 * Lists {@code type} and its bindings in the index, if it can be created
+	 * at runtime: like the reflective path, it needs a single constructor
+	 * whose parameters are all annotated. Classes that can only be filled in
+	 * are left out.
+	 */
+	private void addToIndex(TypeElement type) {
+		if (type.getModifiers().contains(Modifier.ABSTRACT) || !isTopLevelOrStatic(type)) {
+			return;
+		}
+		List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+		if (constructors.size() != 1) {
+			return;
+		}
+		List<? extends VariableElement> parameters = constructors.get(0).getParameters();
+		for (VariableElement parameter : parameters) {
+			if (parameter.getAnnotation(Property.class) == null) {
+				return;
+			}
+		}
+		List<String> bindings = new ArrayList<>();
+		for (int i = 0; i < parameters.size(); i++) {
+			addBinding(bindings, "parameter", String.valueOf(i), parameters.get(i));
+		}
+		List<TypeElement> hierarchy = superclasses(type);
+		Collections.reverse(hierarchy);
+		hierarchy.add(type);
+		for (TypeElement declaring : hierarchy) {
+			for (VariableElement field : annotatedFields(declaring)) {
+				addBinding(bindings, "field", field.getSimpleName().toString(), field);
+			}
+			for (ExecutableElement method : annotatedMethods(declaring)) {
+				addBinding(bindings, "setter", method.getSimpleName().toString(), method);
+			}
+		}
+		index.put(processingEnv.getElementUtils().getBinaryName(type).toString(), bindings);
+		indexed.add(type);
+	}
+
+	private static void addBinding(List<String> bindings, String kind, String member, Element element) {
+		Property property = element.getAnnotation(Property.class);
+		if (property != null) {
+			bindings.add(kind + " " + member + " " + (property.optional() ? "optional" : "required") + " "
+					+ PropertyIndex.escape(property.name()));
+		}
+	}
+
+	private void writeIndex() {
+		if (index.isEmpty()) {
+			return;
+		}
+		try (Writer writer = processingEnv.getFiler()
+				.createResource(StandardLocation.CLASS_OUTPUT, "", PropertyIndex.LOCATION,
+						indexed.toArray(new Element[0]))
+				.openWriter()) {
+			for (Map.Entry<String, List<String>> entry : index.entrySet()) {
+				writer.write(entry.getKey());
+				writer.write('\n');
+				for (String binding : entry.getValue()) {
+					writer.write('\t');
+					writer.write(binding);
+					writer.write('\n');
+				}
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Kind.ERROR,
+					"Could not write " + PropertyIndex.LOCATION + ": " + e);
+		}
+	}
+
+	private Optional<String> unsupportedSlot(Element element, TypeMirror type) {
+		Property property = element.getAnnotation(Property.class);
+		if (property == null) {
+			return Optional.of(element.getSimpleName() + " is not annotated");
+		}
+		if (!getter(type).isPresent()) {
+			return Optional.of(element.getSimpleName() + " has an unsupported type: " + type);
+		}
+		if (property.optional() && type.getKind().isPrimitive()) {
+			return Optional.of(element.getSimpleName() + " is an optional primitive");
+		}
+		return Optional.empty();
+	}
+
+	private static Optional<String> getter(TypeMirror type) {
+		switch (type.toString()) {
+		case "java.lang.String":
+			return Optional.of("getString");
+		case "long":
+		case "java.lang.Long":
+			return Optional.of("getLong");
+		case "int":
+		case "java.lang.Integer":
+			return Optional.of("getInt");
+		case "double":
+		case "java.lang.Double":
+			return Optional.of("getDouble");
+		case "float":
+		case "java.lang.Float":
+			return Optional.of("getFloat");
+		case "boolean":
+		case "java.lang.Boolean":
+			return Optional.of("getBoolean");
+		default:
+			return Optional.empty();
+		}
+	}
+
+	private static List<VariableElement> annotatedFields(TypeElement type) {
+		List<VariableElement> fields = new ArrayList<>();
+		for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+			if (field.getAnnotation(Property.class) != null) {
+				fields.add(field);
+			}
+		}
+		return fields;
+	}
+
+	private static List<ExecutableElement> annotatedMethods(TypeElement type) {
+		List<ExecutableElement> methods = new ArrayList<>();
+		for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+			if (method.getAnnotation(Property.class) != null) {
+				methods.add(method);
+			}
+		}
+		return methods;
+	}
+
+	private void write(TypeElement type) {
+		PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+		String packageName = packageElement.getQualifiedName().toString();
+		String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+		String injectorName = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1) + SUFFIX;
+		String typeName = type.getQualifiedName().toString();
+		StringBuilder code = new StringBuilder();
+		if (!packageName.isEmpty()) {
+			code.append("package ").append(packageName).append(";\n\n");
+		}
+		code.append("public final class ").append(injectorName)
+				.append(" extends io.sumac.propertyinjector.GeneratedInjector<").append(typeName).append("> {\n\n");
+		code.append("\tpublic ").append(injectorName).append("() {\n");
+		code.append("\t\tsuper(").append(typeName).append(".class);\n");
+		code.append("\t}\n\n");
+		code.append("\t@Override\n");
+		code.append("\tpublic ").append(typeName)
+				.append(" newInstance(io.sumac.propertyinjector.PropertySource source) {\n");
+		code.append("\t\t").append(typeName).append(" obj = new ").append(typeName).append("(");
+		ExecutableElement constructor = ElementFilter.constructorsIn(type.getEnclosedElements()).get(0);
+		String separator = "";
+		for (VariableElement parameter : constructor.getParameters()) {
+			code.append(separator).append("\n\t\t\t\t").append(value(parameter, parameter.asType()));
+			separator = ",";
+		}
+		code.append(");\n");
+		code.append("\t\tfillIn(obj, source);\n");
+		code.append("\t\treturn obj;\n");
+		code.append("\t}\n\n");
+		code.append("\t@Override\n");
+		code.append("\tpublic void fillIn(").append(typeName)
+				.append(" obj, io.sumac.propertyinjector.PropertySource source) {\n");
+		for (VariableElement field : annotatedFields(type)) {
+			code.append("\t\tobj.").append(field.getSimpleName()).append(" = ")
+					.append(value(field, field.asType())).append(";\n");
+		}
+		for (ExecutableElement method : annotatedMethods(type)) {
+			code.append("\t\tobj.").append(method.getSimpleName()).append("(")
+					.append(value(method, method.getParameters().get(0).asType())).append(");\n");
+		}
+		code.append("\t}\n");
+		code.append("}\n");
+		String qualifiedName = packageName.isEmpty() ? injectorName : packageName + "." + injectorName;
+		try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+			writer.write(code.toString());
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Kind.ERROR, "Could not write " + qualifiedName + ": " + e, type);
+		}
+	}
+
+	private static String value(Element element, TypeMirror type) {
+		Property property = element.getAnnotation(Property.class);
+		String name = literal(property.name());
+		if (type.getKind().isPrimitive()) {
+			return type + "Value(source, " + name + ")";
+		}
+		return "value(source, source." + getter(type).get() + "(" + name + "), " + name + ", " + property.optional() + ")";
+	}
+
+	private static String literal(String value) {
+		StringBuilder literal = new StringBuilder("\"");
+		for (char c : value.toCharArray()) {
+			switch (c) {
+			case '"':
+				literal.append("\\\"");
+				break;
+			case '\\':
+				literal.append("\\\\");
+				break;
+			case '\n':
+				literal.append("\\n");
+				break;
+			case '\r':
+				literal.append("\\r");
+				break;
+			case '\t':
+				literal.append("\\t");
+				break;
+			default:
+				literal.append(c);
+			}
+		}
+		return literal.append('"').toString();
+	}
+}
@@ -0,0 +1,250 @@
+package io.sumac.propertyinjector.processor;
+
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.sumac.propertyinjector.GeneratedInjector;
+import io.sumac.propertyinjector.PropertyIndex;
+import io.sumac.propertyinjector.PropertyInjector;
+import io.sumac.propertyinjector.PropertyInjectorException;
+import io.sumac.propertyinjector.PropertySource;
+import io.sumac.propertyinjector.processor.sample.ConstructorModel;
+import io.sumac.propertyinjector.processor.sample.FieldModel;
+import io.sumac.propertyinjector.processor.sample.FillInModel;
+import io.sumac.propertyinjector.processor.sample.InheritingModel;
+import io.sumac.propertyinjector.processor.sample.MissingModel;
+import io.sumac.propertyinjector.processor.sample.OptionalPrimitiveModel;
+import io.sumac.propertyinjector.processor.sample.PrefixOnlyModel;
+import io.sumac.propertyinjector.processor.sample.PrefixedModel;
+import io.sumac.propertyinjector.processor.sample.PrivateFieldModel;
+import io.sumac.propertyinjector.processor.sample.SetterModel;
+import io.sumac.propertyinjector.processor.sample.SubclassModel;
+import io.sumac.propertyinjector.processor.sample.ThrowingModel;
+import io.sumac.propertyresolver.PropertyResolver;
+
+public class PropertyInjectorProcessorTest {
+
+	private Properties props;
+
+	@BeforeEach
+	public void setup() {
+		props = new Properties();
+		props.put("test.found.string", "hello world");
+		props.put("test.found.boolean", "true");
+		props.put("test.found.int", "32");
+		props.put("test.found.long", "64");
+		props.put("test.found.double", "2.2");
+		props.put("test.found.float", "1.1");
+	}
+
+	@Test
+	public void testInjectorsGenerated() throws Exception {
+		assertThat(generated(FieldModel.class), instanceOf(GeneratedInjector.class));
+		assertThat(generated(SetterModel.class), instanceOf(GeneratedInjector.class));
+		assertThat(generated(ConstructorModel.class), instanceOf(GeneratedInjector.class));
+		assertThat(generated(ConstructorModel.Nested.class), instanceOf(GeneratedInjector.class));
+	}
+
+	@Test
+	public void testInjectorNotGeneratedForPrivateField() {
+		assertThrows(ClassNotFoundException.class, () -> generated(PrivateFieldModel.class));
+	}
+
+	@Test
+	public void testInjectorNotGeneratedForPrefixedField() {
+		assertThrows(ClassNotFoundException.class, () -> generated(PrefixedModel.class));
+		PrefixedModel output = PropertyInjector.fromProperties(props).to(PrefixedModel.class);
+		assertAll(() -> assertThat(output.getFoundString(), is("hello world")),
+				() -> assertThat(output.getNested().getFoundIntegerPrimitive(), is(32)));
+	}
+
+	@Test
+	public void testMissingNestedProperty() throws Exception {
+		assertThat(generated(PrefixedModel.Nested.class), instanceOf(GeneratedInjector.class));
+		props.remove("test.found.int");
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> PropertyInjector.fromProperties(props).to(PrefixedModel.class));
+		assertThat(output.getMessage(), is("Property not found: 'test.found.int'"));
+	}
+
+	@Test
+	public void testInjectorNotGeneratedForInheritedProperties() {
+		assertThrows(ClassNotFoundException.class, () -> generated(SubclassModel.class));
+		SubclassModel output = PropertyInjector.fromProperties(props).to(SubclassModel.class);
+		assertAll(() -> assertThat(output.getFoundString(), is("hello world")),
+				() -> assertThat(output.getFoundLong(), is(64L)),
+				() -> assertThat(output.getFoundInteger(), is(32)));
+	}
+
+	@Test
+	public void testGeneratedFields() throws Exception {
+		@SuppressWarnings("unchecked")
+		GeneratedInjector<FieldModel> injector = (GeneratedInjector<FieldModel>) generated(FieldModel.class);
+		FieldModel output = injector
+				.newInstance(PropertySource.of(PropertyResolver.registerProviders().useProperties(props).build()));
+		validate(output);
+	}
+
+	@Test
+	public void testToFields() {
+		validate(PropertyInjector.fromProperties(props).to(FieldModel.class));
+	}
+
+	@Test
+	public void testFillInFields() {
+		FieldModel output = new FieldModel();
+		PropertyInjector.fromProperties(props).fillIn(output);
+		validate(output);
+	}
+
+	@Test
+	public void testMissingOptionalPrimitives() {
+		assertThrows(ClassNotFoundException.class, () -> generated(OptionalPrimitiveModel.class));
+		OptionalPrimitiveModel output = PropertyInjector.fromProperties(props).to(OptionalPrimitiveModel.class);
+		assertAll(() -> assertThat(output.getNotFoundIntegerPrimitive(), is(8080)),
+				() -> assertThat(output.getNotFoundLongPrimitive(), is(64L)));
+	}
+
+	@Test
+	public void testToSetters() {
+		SetterModel output = PropertyInjector.fromProperties(props).to(SetterModel.class);
+		assertAll(() -> assertThat(output.getFoundString(), is("hello world")),
+				() -> assertThat(output.getFoundLong(), is(64L)));
+	}
+
+	@Test
+	public void testToConstructor() {
+		ConstructorModel output = PropertyInjector.fromProperties(props).to(ConstructorModel.class);
+		assertAll(() -> assertThat(output.getFoundString(), is("hello world")),
+				() -> assertThat(output.getFoundDouble(), is(2.2)),
+				() -> assertThat(output.getFoundBoolean(), is(true)));
+	}
+
+	@Test
+	public void testToNested() {
+		ConstructorModel.Nested output = PropertyInjector.fromProperties(props).to(ConstructorModel.Nested.class);
+		assertThat(output.getFoundString(), is("hello world"));
+	}
+
+	@Test
+	public void testReflectionFallback() {
+		PrivateFieldModel output = PropertyInjector.fromProperties(props).to(PrivateFieldModel.class);
+		assertThat(output.getFoundString(), is("hello world"));
+	}
+
+	@Test
+	public void testMissingProperty() {
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> PropertyInjector.fromProperties(props).to(MissingModel.class));
+		assertThat(output.getMessage(), is("Property not found: 'test.not_found.string'"));
+	}
+
+	@Test
+	public void testMalformedValue() {
+		props.put("test.found.int", "abc");
+		PropertyInjector systemUnderTest = PropertyInjector.fromProperties(props);
+		PropertyInjectorException to = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.to(FieldModel.class));
+		PropertyInjectorException fillIn = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.fillIn(new FieldModel()));
+		PropertyInjectorException nested = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.to(PrefixedModel.class));
+		assertAll(() -> assertThat(to.getMessage(), is("Reflection error")),
+				() -> assertThat(to.getCause(), instanceOf(NumberFormatException.class)),
+				() -> assertThat(fillIn.getCause(), instanceOf(NumberFormatException.class)),
+				() -> assertThat(nested.getMessage(), is("Reflection error")));
+	}
+
+	@Test
+	public void testThrowingSetter() throws Exception {
+		assertThat(generated(ThrowingModel.class), instanceOf(GeneratedInjector.class));
+		PropertyInjector systemUnderTest = PropertyInjector.fromProperties(props);
+		PropertyInjectorException to = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.to(ThrowingModel.class));
+		PropertyInjectorException fillIn = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.fillIn(new ThrowingModel()));
+		assertAll(() -> assertThat(to.getMessage(), is("Reflection error")),
+				() -> assertThat(to.getCause(), instanceOf(IllegalStateException.class)),
+				() -> assertThat(fillIn.getMessage(), is("Reflection error")));
+	}
+
+	@Test
+	public void testGeneratedWithValueCache() {
+		AtomicInteger reads = new AtomicInteger();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertySource(name -> {
+			reads.incrementAndGet();
+			return Optional.ofNullable(props.getProperty(name));
+		}).withValueCache(100);
+		systemUnderTest.to(FieldModel.class);
+		assertThat(reads.get(), is(7));
+		validate(systemUnderTest.to(FieldModel.class));
+		assertThat(reads.get(), is(7));
+	}
+
+	@Test
+	public void testIndexWritten() {
+		PropertyIndex index = PropertyIndex.load(getClass().getClassLoader());
+		assertAll(
+				() -> assertThat(index.getClassNames(),
+						hasItems(FieldModel.class.getName(), ConstructorModel.Nested.class.getName(),
+								PrefixedModel.class.getName(), PrivateFieldModel.class.getName(),
+								PrefixedModel.Nested.class.getName(), PrefixOnlyModel.class.getName(),
+								InheritingModel.class.getName())),
+				() -> assertThat(index.getBindings(InheritingModel.class.getName()).toString(),
+						is(index.getBindings(SetterModel.class.getName()).toString())),
+				() -> assertThat(index.getClassNames().contains(FillInModel.class.getName()), is(false)),
+				() -> assertThat(index.getClassNames().contains(FillInModel.Unannotated.class.getName()), is(false)),
+				() -> assertThat(index.getBindings(ConstructorModel.class.getName()).toString(),
+						is("[parameter 0 required test.found.string, parameter 1 required test.found.double, "
+								+ "field foundBoolean required test.found.boolean]")),
+				() -> assertThat(index.getBindings(SetterModel.class.getName()).get(1).getKind(),
+						is(PropertyIndex.Binding.Kind.SETTER)),
+				() -> assertThat(index.getBindings(FieldModel.class.getName()).get(7).isOptional(), is(true)));
+	}
+
+	@Test
+	public void testPrepareIndexed() {
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> PropertyInjector.fromProperties(props).prepareIndexed());
+		assertThat(output.getMessage(), is("Property not found: 'test.not_found.string'"));
+		props.put("test.not_found.string", "found");
+		props.put("int", "32");
+		assertThat(PropertyInjector.fromProperties(props).prepareIndexed(),
+				hasItems(FieldModel.class, MissingModel.class, PrefixOnlyModel.class, InheritingModel.class));
+	}
+
+	@Test
+	public void testFillInOnlyModel() {
+		FillInModel output = new FillInModel(7);
+		PropertyInjector.fromProperties(props).fillIn(output);
+		assertAll(() -> assertThat(output.getFoundString(), is("hello world")),
+				() -> assertThat(output.getId(), is(7)));
+	}
+
+	private static Object generated(Class<?> type) throws Exception {
+		return Class.forName(type.getName() + PropertyInjectorProcessor.SUFFIX).getConstructor().newInstance();
+	}
+
+	private void validate(FieldModel model) {
+		assertAll(() -> assertThat(model.getFoundString(), is("hello world")),
+				() -> assertThat(model.getFoundInteger(), is(32)),
+				() -> assertThat(model.getFoundIntegerPrimitive(), is(32)),
+				() -> assertThat(model.getFoundLongPrimitive(), is(64L)),
+				() -> assertThat(model.getFoundDoublePrimitive(), is(2.2)),
+				() -> assertThat(model.getFoundFloatPrimitive(), is(1.1F)),
+				() -> assertThat(model.getFoundBooleanPrimitive(), is(true)),
+				() -> assertThat(model.getNotFoundString(), nullValue()));
+	}
+}
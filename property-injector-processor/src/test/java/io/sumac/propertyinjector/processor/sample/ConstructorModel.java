@@ -0,0 +1,42 @@
+package io.sumac.propertyinjector.processor.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+public class ConstructorModel {
+
+	private final String foundString;
+
+	private final double foundDouble;
+
+	@Property(name = "test.found.boolean")
+	Boolean foundBoolean;
+
+	public ConstructorModel(@Property(name = "test.found.string") String foundString,
+			@Property(name = "test.found.double") double foundDouble) {
+		this.foundString = foundString;
+		this.foundDouble = foundDouble;
+	}
+
+	public String getFoundString() {
+		return foundString;
+	}
+
+	public double getFoundDouble() {
+		return foundDouble;
+	}
+
+	public Boolean getFoundBoolean() {
+		return foundBoolean;
+	}
+
+	public static class Nested {
+
+		@Property(name = "test.found.string")
+		String foundString;
+
+		public String getFoundString() {
+			return foundString;
+		}
+	}
+
+}
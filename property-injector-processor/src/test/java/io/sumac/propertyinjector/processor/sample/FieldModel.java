@@ -0,0 +1,56 @@
+package io.sumac.propertyinjector.processor.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+public class FieldModel {
+
+	@Property(name = "test.found.string")
+	String foundString;
+	@Property(name = "test.found.int")
+	Integer foundInteger;
+	@Property(name = "test.found.int")
+	int foundIntegerPrimitive;
+	@Property(name = "test.found.long")
+	long foundLongPrimitive;
+	@Property(name = "test.found.double")
+	double foundDoublePrimitive;
+	@Property(name = "test.found.float")
+	float foundFloatPrimitive;
+	@Property(name = "test.found.boolean")
+	boolean foundBooleanPrimitive;
+	@Property(name = "test.not_found.string", optional = true)
+	String notFoundString;
+
+	public String getFoundString() {
+		return foundString;
+	}
+
+	public Integer getFoundInteger() {
+		return foundInteger;
+	}
+
+	public int getFoundIntegerPrimitive() {
+		return foundIntegerPrimitive;
+	}
+
+	public long getFoundLongPrimitive() {
+		return foundLongPrimitive;
+	}
+
+	public double getFoundDoublePrimitive() {
+		return foundDoublePrimitive;
+	}
+
+	public float getFoundFloatPrimitive() {
+		return foundFloatPrimitive;
+	}
+
+	public boolean getFoundBooleanPrimitive() {
+		return foundBooleanPrimitive;
+	}
+
+	public String getNotFoundString() {
+		return notFoundString;
+	}
+
+}
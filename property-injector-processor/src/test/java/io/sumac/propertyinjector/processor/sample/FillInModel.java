@@ -0,0 +1,41 @@
+package io.sumac.propertyinjector.processor.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+public class FillInModel {
+
+	@Property(name = "test.found.string")
+	String foundString;
+
+	private final int id;
+
+	public FillInModel() {
+		this(0);
+	}
+
+	public FillInModel(int id) {
+		this.id = id;
+	}
+
+	public String getFoundString() {
+		return foundString;
+	}
+
+	public int getId() {
+		return id;
+	}
+
+	public static class Unannotated {
+
+		@Property(name = "test.found.string")
+		String foundString;
+
+		public Unannotated(String foundString) {
+			this.foundString = foundString;
+		}
+
+		public String getFoundString() {
+			return foundString;
+		}
+	}
+}
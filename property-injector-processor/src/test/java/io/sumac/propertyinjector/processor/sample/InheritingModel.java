@@ -0,0 +1,5 @@
+package io.sumac.propertyinjector.processor.sample;
+
+public class InheritingModel extends SetterModel {
+
+}
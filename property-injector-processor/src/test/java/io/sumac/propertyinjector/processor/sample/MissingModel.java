@@ -0,0 +1,10 @@
+package io.sumac.propertyinjector.processor.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+public class MissingModel {
+
+	@Property(name = "test.not_found.string")
+	String notFoundString;
+
+}
@@ -0,0 +1,25 @@
+package io.sumac.propertyinjector.processor.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+public class OptionalPrimitiveModel {
+
+	@Property(name = "test.not_found.int", optional = true)
+	int notFoundIntegerPrimitive = 8080;
+
+	private long notFoundLongPrimitive = 64L;
+
+	public int getNotFoundIntegerPrimitive() {
+		return notFoundIntegerPrimitive;
+	}
+
+	public long getNotFoundLongPrimitive() {
+		return notFoundLongPrimitive;
+	}
+
+	@Property(name = "test.not_found.long", optional = true)
+	public void setNotFoundLongPrimitive(long notFoundLongPrimitive) {
+		this.notFoundLongPrimitive = notFoundLongPrimitive;
+	}
+
+}
@@ -0,0 +1,14 @@
+package io.sumac.propertyinjector.processor.sample;
+
+import io.sumac.propertyinjector.annotations.PropertyPrefix;
+
+public class PrefixOnlyModel {
+
+	@PropertyPrefix("test.found")
+	PrefixedModel.Nested nested;
+
+	public PrefixedModel.Nested getNested() {
+		return nested;
+	}
+
+}
@@ -0,0 +1,31 @@
+package io.sumac.propertyinjector.processor.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+import io.sumac.propertyinjector.annotations.PropertyPrefix;
+
+public class PrefixedModel {
+
+	@Property(name = "test.found.string")
+	String foundString;
+	@PropertyPrefix("test.found")
+	Nested nested;
+
+	public String getFoundString() {
+		return foundString;
+	}
+
+	public Nested getNested() {
+		return nested;
+	}
+
+	public static class Nested {
+
+		@Property(name = "int")
+		int foundIntegerPrimitive;
+
+		public int getFoundIntegerPrimitive() {
+			return foundIntegerPrimitive;
+		}
+	}
+
+}
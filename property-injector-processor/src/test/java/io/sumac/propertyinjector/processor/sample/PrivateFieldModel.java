@@ -0,0 +1,14 @@
+package io.sumac.propertyinjector.processor.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+public class PrivateFieldModel {
+
+	@Property(name = "test.found.string")
+	private String foundString;
+
+	public String getFoundString() {
+		return foundString;
+	}
+
+}
@@ -0,0 +1,29 @@
+package io.sumac.propertyinjector.processor.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+public class SetterModel {
+
+	private String foundString;
+
+	private long foundLong;
+
+	public String getFoundString() {
+		return foundString;
+	}
+
+	@Property(name = "test.found.string")
+	public void setFoundString(String foundString) {
+		this.foundString = foundString;
+	}
+
+	public long getFoundLong() {
+		return foundLong;
+	}
+
+	@Property(name = "test.found.long")
+	void setFoundLong(long foundLong) {
+		this.foundLong = foundLong;
+	}
+
+}
@@ -0,0 +1,14 @@
+package io.sumac.propertyinjector.processor.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+public class SubclassModel extends SetterModel {
+
+	@Property(name = "test.found.int")
+	int foundInteger;
+
+	public int getFoundInteger() {
+		return foundInteger;
+	}
+
+}
@@ -0,0 +1,12 @@
+package io.sumac.propertyinjector.processor.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+public class ThrowingModel {
+
+	@Property(name = "test.found.string")
+	public void setFoundString(String foundString) {
+		throw new IllegalStateException("rejected " + foundString);
+	}
+
+}
@@ -0,0 +1,23 @@
+package io.sumac.propertyinjector;
+
+/**
+ * How injected members are written once their values have been resolved.
+ */
+public enum AccessStrategy {
+	/**
+	 * {@code Field.set}, {@code Method.invoke} and
+	 * {@code Constructor.newInstance}.
+	 */
+	REFLECTION,
+	/**
+	 * Method handles unreflected once per member when the injection plan is
+	 * built.
+	 */
+	METHOD_HANDLES,
+	/**
+	 * One method handle tree per class that reads every slot into its declared
+	 * type and calls the constructor without an argument array. Composed on
+	 * first use.
+	 */
+	COMPILED
+}
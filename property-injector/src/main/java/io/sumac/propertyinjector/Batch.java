@@ -0,0 +1,100 @@
+package io.sumac.propertyinjector;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+
+/**
+ * Runs one action per batch index, either in the calling thread or split
+ * across a {@link ForkJoinPool}. Indices may be visited in any order, but the
+ * failure that is rethrown is always the one with the lowest index, so a
+ * batch fails the same way however it was scheduled. Once an index has
+ * failed, higher indices are skipped.
+ */
+final class Batch {
+
+	private final int[] order;
+	private final IntConsumer action;
+	private final AtomicReference<Failure> failure = new AtomicReference<>();
+
+	private Batch(int[] order, IntConsumer action) {
+		this.order = order;
+		this.action = action;
+	}
+
+	static void run(int[] order, IntConsumer action, ForkJoinPool pool) {
+		Batch batch = new Batch(order, action);
+		if (pool == null) {
+			batch.run(0, order.length);
+		} else {
+			int threshold = Math.max(1, order.length / (pool.getParallelism() * 8));
+			pool.invoke(batch.new Task(0, order.length, threshold));
+		}
+		Failure first = batch.failure.get();
+		if (first != null) {
+			throw first.exception;
+		}
+	}
+
+	private void run(int from, int to) {
+		for (int i = from; i < to; i++) {
+			int index = order[i];
+			Failure current = failure.get();
+			if (current != null && current.index < index) {
+				continue;
+			}
+			try {
+				action.accept(index);
+			} catch (RuntimeException e) {
+				fail(new Failure(index, e));
+			}
+		}
+	}
+
+	private void fail(Failure candidate) {
+		Failure current;
+		do {
+			current = failure.get();
+			if (current != null && current.index < candidate.index) {
+				return;
+			}
+		} while (!failure.compareAndSet(current, candidate));
+	}
+
+	private static final class Failure {
+
+		private final int index;
+		private final RuntimeException exception;
+
+		private Failure(int index, RuntimeException exception) {
+			this.index = index;
+			this.exception = exception;
+		}
+	}
+
+	private final class Task extends RecursiveAction {
+
+		private static final long serialVersionUID = 4137251842236318862L;
+
+		private final int from;
+		private final int to;
+		private final int threshold;
+
+		private Task(int from, int to, int threshold) {
+			this.from = from;
+			this.to = to;
+			this.threshold = threshold;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= threshold) {
+				run(from, to);
+			} else {
+				int middle = (from + to) >>> 1;
+				invokeAll(new Task(from, middle, threshold), new Task(middle, to, threshold));
+			}
+		}
+	}
+}
@@ -0,0 +1,229 @@
+package io.sumac.propertyinjector;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * Keeps the parsed values of another source, keyed by property name and type,
+ * in a bounded LRU cache. Call {@link #invalidate()} when the values change.
+ */
+public final class CachingPropertySource implements PropertySourceDecorator {
+
+	private static final int SEGMENTS = 16;
+	private static final BiFunction<PropertySource, String, Optional<String>> STRINGS = PropertySource::getString;
+	private static final BiFunction<PropertySource, String, Optional<Long>> LONGS = PropertySource::getLong;
+	private static final BiFunction<PropertySource, String, Optional<Integer>> INTS = PropertySource::getInt;
+	private static final BiFunction<PropertySource, String, Optional<Double>> DOUBLES = PropertySource::getDouble;
+	private static final BiFunction<PropertySource, String, Optional<Float>> FLOATS = PropertySource::getFloat;
+	private static final BiFunction<PropertySource, String, Optional<Boolean>> BOOLEANS = PropertySource::getBoolean;
+
+	private final PropertySource delegate;
+	private final int maximumSize;
+	private final Segment[] segments;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final InjectionListener listener;
+
+	private CachingPropertySource(PropertySource delegate, int maximumSize, int count, InjectionListener listener) {
+		this.delegate = delegate;
+		this.maximumSize = maximumSize;
+		this.listener = listener;
+		this.segments = new Segment[count];
+		for (int i = 0; i < count; i++) {
+			segments[i] = new Segment(maximumSize / count + (i < maximumSize % count ? 1 : 0));
+		}
+	}
+
+	public static CachingPropertySource of(PropertySource delegate, int maximumSize) {
+		return of(delegate, maximumSize, InjectionListener.NONE);
+	}
+
+	/**
+	 * Also reports every hit and miss to {@code listener}.
+	 */
+	public static CachingPropertySource of(PropertySource delegate, int maximumSize, InjectionListener listener) {
+		if (maximumSize < 1) {
+			throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+		}
+		return of(delegate, maximumSize, Math.min(SEGMENTS, maximumSize), listener);
+	}
+
+	static CachingPropertySource of(PropertySource delegate, int maximumSize, int segments,
+			InjectionListener listener) {
+		return new CachingPropertySource(delegate, maximumSize, segments, listener);
+	}
+
+	/**
+	 * An empty cache of the same size over {@code delegate}.
+	 */
+	CachingPropertySource emptyCopy(PropertySource delegate, InjectionListener listener) {
+		return of(delegate, maximumSize, segments.length, listener);
+	}
+
+	PropertySource getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * Always true, so that primitive slots read the values kept here.
+	 */
+	@Override
+	public boolean prefersTypedReads() {
+		return true;
+	}
+
+	@Override
+	public Optional<?> read(String name, Object type,
+			BiFunction<PropertySource, String, ? extends Optional<?>> reader) {
+		return type == null ? reader.apply(this, name) : get(name, type, reader);
+	}
+
+	@Override
+	public String fullName(String name) {
+		return PropertySourceDecorator.fullName(delegate, name);
+	}
+
+	@Override
+	public Optional<String> getString(String name) {
+		return get(name, String.class, STRINGS);
+	}
+
+	@Override
+	public Optional<Long> getLong(String name) {
+		return get(name, Long.class, LONGS);
+	}
+
+	@Override
+	public Optional<Integer> getInt(String name) {
+		return get(name, Integer.class, INTS);
+	}
+
+	@Override
+	public Optional<Double> getDouble(String name) {
+		return get(name, Double.class, DOUBLES);
+	}
+
+	@Override
+	public Optional<Float> getFloat(String name) {
+		return get(name, Float.class, FLOATS);
+	}
+
+	@Override
+	public Optional<Boolean> getBoolean(String name) {
+		return get(name, Boolean.class, BOOLEANS);
+	}
+
+	/**
+	 * Drops every cached value.
+	 */
+	public void invalidate() {
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+	}
+
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	public int size() {
+		int size = 0;
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				size += segment.size();
+			}
+		}
+		return size;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> Optional<T> get(String name, Object type,
+			BiFunction<PropertySource, String, ? extends Optional<?>> reader) {
+		Key key = new Key(name, type);
+		Segment segment = segments[(key.hashCode() & Integer.MAX_VALUE) % segments.length];
+		Optional<?> value;
+		int generation;
+		synchronized (segment) {
+			value = segment.get(key);
+			generation = segment.generation;
+		}
+		if (value != null) {
+			hits.increment();
+			listener.cacheHit(name);
+			return (Optional<T>) value;
+		}
+		misses.increment();
+		listener.cacheMiss(name);
+		value = PropertySourceDecorator.read(delegate, name, type, reader);
+		synchronized (segment) {
+			if (segment.generation == generation) {
+				Optional<?> raced = segment.putIfAbsent(key, value);
+				if (raced != null) {
+					value = raced;
+				}
+			}
+		}
+		return (Optional<T>) value;
+	}
+
+	private static final class Key {
+
+		private final String name;
+		private final Object type;
+
+		private Key(String name, Object type) {
+			this.name = name;
+			this.type = type;
+		}
+
+		@Override
+		public int hashCode() {
+			return name.hashCode() * 31 + type.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return type == other.type && name.equals(other.name);
+		}
+	}
+
+	private static final class Segment extends LinkedHashMap<Key, Optional<?>> {
+
+		private static final long serialVersionUID = 3390716478402281643L;
+
+		private final int capacity;
+		private int generation;
+
+		private Segment(int capacity) {
+			super(16, 0.75F, true);
+			this.capacity = capacity;
+		}
+
+		/**
+		 * Also keeps values read before the call from being added after it.
+		 */
+		@Override
+		public void clear() {
+			super.clear();
+			generation++;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Optional<?>> eldest) {
+			return size() > capacity;
+		}
+	}
+}
@@ -0,0 +1,156 @@
+package io.sumac.propertyinjector;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Objects;
+
+import io.sumac.propertyinjector.InjectionPlan.ConstructorBinding;
+import io.sumac.propertyinjector.InjectionPlan.MemberBinding;
+import io.sumac.propertyinjector.InjectionPlan.NestedBinding;
+
+/**
+ * A single method handle tree per class, composed from the bindings of an
+ * {@link InjectionPlan}.
+ */
+final class CompiledInjector {
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+	private static final MethodType FILL_IN_TYPE = methodType(void.class, Object.class, PropertySource.class);
+	private static final MethodType CONSTRUCT_TYPE = methodType(Object.class, PropertySource.class);
+	private static final MethodHandle RESOLVE;
+	private static final MethodHandle RESOLVE_STRING;
+	private static final MethodHandle NON_NULL;
+	private static final MethodHandle NO_OP;
+	private static final MethodHandle SKIP;
+	private static final MethodHandle NESTED;
+	private static final MethodHandle TYPED_READS;
+	private static final MethodHandle RESOLVE_TYPED;
+	private static final MethodHandle NON_NULL_OBJECT;
+	private static final MethodHandle SKIP_OBJECT;
+
+	static {
+		try {
+			RESOLVE = LOOKUP.findVirtual(Slot.class, "resolve", methodType(Object.class, PropertySource.class));
+			RESOLVE_STRING = LOOKUP.findVirtual(Slot.class, "resolveString",
+					methodType(String.class, PropertySource.class));
+			NON_NULL = LOOKUP.findStatic(Objects.class, "nonNull", methodType(boolean.class, Object.class))
+					.asType(methodType(boolean.class, String.class));
+			NO_OP = LOOKUP.findStatic(CompiledInjector.class, "noOp", FILL_IN_TYPE);
+			SKIP_OBJECT = LOOKUP.findStatic(CompiledInjector.class, "skip",
+					methodType(void.class, Object.class, Object.class));
+			SKIP = SKIP_OBJECT.asType(methodType(void.class, Object.class, String.class));
+			NESTED = MethodHandles.insertArguments(LOOKUP.findVirtual(NestedBinding.class, "inject",
+					methodType(void.class, Object.class, PropertySource.class, AccessStrategy.class)), 3,
+					AccessStrategy.COMPILED);
+			TYPED_READS = LOOKUP.findStatic(PropertySourceDecorator.class, "prefersTypedReads",
+					methodType(boolean.class, PropertySource.class));
+			RESOLVE_TYPED = LOOKUP.findVirtual(Slot.class, "resolveTyped",
+					methodType(Object.class, PropertySource.class));
+			NON_NULL_OBJECT = LOOKUP.findStatic(Objects.class, "nonNull", methodType(boolean.class, Object.class));
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private final InjectionPlan plan;
+	private final MethodHandle fillIn;
+	private volatile MethodHandle construct;
+
+	private CompiledInjector(InjectionPlan plan, MethodHandle fillIn) {
+		this.plan = plan;
+		this.fillIn = fillIn;
+	}
+
+	static CompiledInjector compile(InjectionPlan plan) {
+		MethodHandle fillIn = NO_OP;
+		for (MemberBinding member : plan.getMembers()) {
+			fillIn = MethodHandles.foldArguments(writer(member), fillIn);
+		}
+		for (NestedBinding nested : plan.getNested()) {
+			fillIn = MethodHandles.foldArguments(NESTED.bindTo(nested), fillIn);
+		}
+		return new CompiledInjector(plan, fillIn);
+	}
+
+	Object construct(PropertySource source) throws InvocationTargetException {
+		try {
+			return (Object) constructor().invokeExact(source);
+		} catch (PropertyInjectorException e) {
+			throw e;
+		} catch (Throwable t) {
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	void fillIn(Object obj, PropertySource source) throws InvocationTargetException {
+		try {
+			fillIn.invokeExact(obj, source);
+		} catch (PropertyInjectorException e) {
+			throw e;
+		} catch (Throwable t) {
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	private MethodHandle constructor() {
+		MethodHandle handle = construct;
+		if (handle == null) {
+			ConstructorBinding binding = plan.getConstructor();
+			Slot[] slots = binding.getSlots();
+			handle = binding.getHandle();
+			for (int i = 0; i < slots.length; i++) {
+				handle = MethodHandles.filterArguments(handle, i, reader(slots[i], handle.type().parameterType(i)));
+			}
+			handle = MethodHandles.permuteArguments(handle.asType(methodType(Object.class, handle.type())),
+					CONSTRUCT_TYPE, new int[slots.length]);
+			MethodHandle fillInAndReturn = MethodHandles.foldArguments(
+					MethodHandles.dropArguments(MethodHandles.identity(Object.class), 1, PropertySource.class),
+					fillIn);
+			handle = MethodHandles.foldArguments(fillInAndReturn, handle);
+			construct = handle;
+		}
+		return handle;
+	}
+
+	private static MethodHandle writer(MemberBinding member) {
+		MethodHandle target = member.getWriter();
+		Slot slot = member.getSlot();
+		if (!slot.isPrimitive()) {
+			return MethodHandles.filterArguments(target, 1, reader(slot, target.type().parameterType(1)));
+		}
+		MethodHandle write = MethodHandles.filterArguments(target, 1, slot.getPrimitive().getParser());
+		MethodHandle test = MethodHandles.dropArguments(NON_NULL, 0, Object.class);
+		MethodHandle parse = MethodHandles.filterArguments(MethodHandles.guardWithTest(test, write, SKIP), 1,
+				RESOLVE_STRING.bindTo(slot));
+		MethodHandle unbox = target.asType(methodType(void.class, Object.class, Object.class));
+		MethodHandle parsed = MethodHandles.filterArguments(MethodHandles.guardWithTest(
+				MethodHandles.dropArguments(NON_NULL_OBJECT, 0, Object.class), unbox, SKIP_OBJECT), 1,
+				RESOLVE_TYPED.bindTo(slot));
+		return MethodHandles.guardWithTest(MethodHandles.dropArguments(TYPED_READS, 0, Object.class), parsed,
+				parse);
+	}
+
+	private static MethodHandle reader(Slot slot, Class<?> type) {
+		if (!slot.isPrimitive()) {
+			return RESOLVE.bindTo(slot).asType(methodType(type, PropertySource.class));
+		}
+		Primitive primitive = slot.getPrimitive();
+		MethodHandle orDefault = MethodHandles.guardWithTest(NON_NULL, primitive.getParser(), MethodHandles
+				.dropArguments(MethodHandles.constant(primitive.getType(), primitive.getDefaultValue()), 0, String.class));
+		return MethodHandles.guardWithTest(TYPED_READS,
+				RESOLVE.bindTo(slot).asType(methodType(primitive.getType(), PropertySource.class)),
+				MethodHandles.filterReturnValue(RESOLVE_STRING.bindTo(slot), orDefault));
+	}
+
+	@SuppressWarnings("unused")
+	private static void noOp(Object obj, PropertySource source) {
+	}
+
+	@SuppressWarnings("unused")
+	private static void skip(Object obj, Object value) {
+	}
+}
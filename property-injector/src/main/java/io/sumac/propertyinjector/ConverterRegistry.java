@@ -0,0 +1,100 @@
+package io.sumac.propertyinjector;
+
+import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * An immutable set of {@link TypeConverter}s keyed by type, together with the
+ * {@link InjectionPlan}s built against it. Plans resolve their converters when
+ * they are built, so each registry caches its own; injectors that share a
+ * registry share plans.
+ */
+final class ConverterRegistry {
+
+	private static volatile ConverterRegistry defaults;
+
+	private final Map<Class<?>, TypeConverter<?>> converters;
+	private final ClassValue<InjectionPlan> plans = new ClassValue<InjectionPlan>() {
+		@Override
+		protected InjectionPlan computeValue(Class<?> type) {
+			return InjectionPlan.build(type, ConverterRegistry.this);
+		}
+	};
+
+	private ConverterRegistry(Map<Class<?>, TypeConverter<?>> converters) {
+		this.converters = converters;
+	}
+
+	/**
+	 * The built-in converters for {@link Duration} and {@link DataSize}, and
+	 * the converters listed in {@code META-INF/services}, loaded once. Enums
+	 * without a converter of their own are converted by {@link EnumConverter}.
+	 * A listed converter for a built-in type is rejected, as it is by
+	 * {@link #with(TypeConverter)}.
+	 */
+	static ConverterRegistry defaults() {
+		ConverterRegistry registry = defaults;
+		if (registry == null) {
+			synchronized (ConverterRegistry.class) {
+				registry = defaults;
+				if (registry == null) {
+					registry = of(ServiceLoader.load(TypeConverter.class));
+					defaults = registry;
+				}
+			}
+		}
+		return registry;
+	}
+
+	/**
+	 * The built-in converters, replaced or extended by {@code services} in
+	 * order.
+	 */
+	@SuppressWarnings("rawtypes")
+	static ConverterRegistry of(Iterable<? extends TypeConverter> services) {
+		Map<Class<?>, TypeConverter<?>> converters = new IdentityHashMap<>();
+		converters.put(Duration.class, TypeConverter.of(Duration.class, Units::parseDuration));
+		converters.put(DataSize.class, TypeConverter.of(DataSize.class, DataSize::parse));
+		for (TypeConverter<?> converter : services) {
+			converters.put(checkConvertible(converter.getType()), converter);
+		}
+		return new ConverterRegistry(converters);
+	}
+
+	/**
+	 * A copy with {@code converter} added. Like a listed converter, it
+	 * replaces the one for the same type, including the built-in
+	 * {@link Duration} and {@link DataSize} converters.
+	 */
+	ConverterRegistry with(TypeConverter<?> converter) {
+		Map<Class<?>, TypeConverter<?>> copy = new IdentityHashMap<>(converters);
+		copy.put(checkConvertible(converter.getType()), converter);
+		return new ConverterRegistry(copy);
+	}
+
+	Optional<TypeConverter<?>> find(Class<?> type) {
+		TypeConverter<?> converter = converters.get(type);
+		if (converter == null && type.isEnum()) {
+			converter = EnumConverter.of(type);
+		}
+		return Optional.ofNullable(converter);
+	}
+
+	InjectionPlan plan(Class<?> type) {
+		return plans.get(type);
+	}
+
+	/**
+	 * Types read natively by {@link ValueType} are never looked up, so a
+	 * converter for one would be ignored.
+	 */
+	private static Class<?> checkConvertible(Class<?> type) {
+		if (type.isPrimitive() || ValueType.of(type).isPresent()) {
+			throw PropertyInjectorException.builtInType(type);
+		}
+		return type;
+	}
+}
@@ -0,0 +1,49 @@
+package io.sumac.propertyinjector;
+
+/**
+ * An amount of data in bytes, converted from values like {@code 512},
+ * {@code 64KB} or {@code 64MiB}. Decimal units ({@code KB}, {@code MB},
+ * {@code GB}, {@code TB}, {@code PB}) are powers of 1000 and binary units
+ * ({@code KiB} to {@code PiB}) powers of 1024; units are not case
+ * sensitive, and a plain number is in bytes.
+ */
+public final class DataSize implements Comparable<DataSize> {
+
+	private final long bytes;
+
+	private DataSize(long bytes) {
+		this.bytes = bytes;
+	}
+
+	public static DataSize ofBytes(long bytes) {
+		return new DataSize(bytes);
+	}
+
+	public static DataSize parse(String value) {
+		return new DataSize(Units.parseBytes(value));
+	}
+
+	public long toBytes() {
+		return bytes;
+	}
+
+	@Override
+	public int compareTo(DataSize other) {
+		return Long.compare(bytes, other.bytes);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj == this || (obj instanceof DataSize && ((DataSize) obj).bytes == bytes);
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(bytes);
+	}
+
+	@Override
+	public String toString() {
+		return bytes + "B";
+	}
+}
@@ -0,0 +1,173 @@
+package io.sumac.propertyinjector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Multi-valued properties, either one comma separated value ({@code x=a, b})
+ * or indexed keys ({@code x[0]=a}, {@code x[1]=b}).
+ */
+final class Delimited {
+
+	static final char SEPARATOR = ',';
+
+	private Delimited() {
+	}
+
+	static <T> Optional<T> read(PropertySource source, String name, Function<String, T> delimited,
+			Function<List<String>, T> indexed) {
+		Optional<String> value = source.getString(name);
+		if (value.isPresent()) {
+			return Optional.of(delimited.apply(value.get()));
+		}
+		List<String> values = new ArrayList<>();
+		for (Optional<String> element = source.getString(name + "[0]"); element.isPresent(); element = source
+				.getString(name + "[" + values.size() + "]")) {
+			values.add(element.get().trim());
+		}
+		return values.isEmpty() ? Optional.empty() : Optional.of(indexed.apply(values));
+	}
+
+	static List<String> strings(String value) {
+		List<String> strings = new ArrayList<>();
+		int begin = first(value);
+		while (begin >= 0) {
+			int end = end(value, begin);
+			strings.add(value.substring(trimStart(value, begin, end), trimEnd(value, begin, end)));
+			begin = next(value, end);
+		}
+		return strings;
+	}
+
+	static List<Integer> integers(String value) {
+		int[] ints = ints(value);
+		List<Integer> integers = new ArrayList<>(ints.length);
+		for (int i : ints) {
+			integers.add(i);
+		}
+		return integers;
+	}
+
+	static int[] ints(String value) {
+		int[] ints = new int[10];
+		int count = 0;
+		int begin = first(value);
+		while (begin >= 0) {
+			int end = end(value, begin);
+			if (count == ints.length) {
+				ints = Arrays.copyOf(ints, count * 2);
+			}
+			ints[count++] = (int) parseLong(value, trimStart(value, begin, end), trimEnd(value, begin, end),
+					Integer.MIN_VALUE, Integer.MAX_VALUE);
+			begin = next(value, end);
+		}
+		return count == ints.length ? ints : Arrays.copyOf(ints, count);
+	}
+
+	static long[] longs(String value) {
+		long[] longs = new long[10];
+		int count = 0;
+		int begin = first(value);
+		while (begin >= 0) {
+			int end = end(value, begin);
+			if (count == longs.length) {
+				longs = Arrays.copyOf(longs, count * 2);
+			}
+			longs[count++] = parseLong(value, trimStart(value, begin, end), trimEnd(value, begin, end),
+					Long.MIN_VALUE, Long.MAX_VALUE);
+			begin = next(value, end);
+		}
+		return count == longs.length ? longs : Arrays.copyOf(longs, count);
+	}
+
+	static List<Integer> integers(List<String> values) {
+		List<Integer> integers = new ArrayList<>(values.size());
+		for (String value : values) {
+			integers.add((int) parseLong(value, 0, value.length(), Integer.MIN_VALUE, Integer.MAX_VALUE));
+		}
+		return integers;
+	}
+
+	static int[] ints(List<String> values) {
+		int[] ints = new int[values.size()];
+		for (int i = 0; i < ints.length; i++) {
+			String value = values.get(i);
+			ints[i] = (int) parseLong(value, 0, value.length(), Integer.MIN_VALUE, Integer.MAX_VALUE);
+		}
+		return ints;
+	}
+
+	static long[] longs(List<String> values) {
+		long[] longs = new long[values.size()];
+		for (int i = 0; i < longs.length; i++) {
+			String value = values.get(i);
+			longs[i] = parseLong(value, 0, value.length(), Long.MIN_VALUE, Long.MAX_VALUE);
+		}
+		return longs;
+	}
+
+	/**
+	 * Parses {@code value[begin, end)} as a decimal in {@code [min, max]},
+	 * accumulating negatively so that {@code min} itself does not overflow.
+	 */
+	static long parseLong(String value, int begin, int end, long min, long max) {
+		int i = begin;
+		boolean negative = false;
+		if (i < end && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+			negative = value.charAt(i) == '-';
+			i++;
+		}
+		if (i == end) {
+			throw numberFormat(value, begin, end);
+		}
+		long limit = negative ? min : -max;
+		long multiplyMin = limit / 10;
+		long result = 0;
+		for (; i < end; i++) {
+			int digit = value.charAt(i) - '0';
+			if (digit < 0 || digit > 9 || result < multiplyMin) {
+				throw numberFormat(value, begin, end);
+			}
+			result *= 10;
+			if (result < limit + digit) {
+				throw numberFormat(value, begin, end);
+			}
+			result -= digit;
+		}
+		return negative ? result : -result;
+	}
+
+	private static int first(String value) {
+		return trimStart(value, 0, value.length()) == value.length() ? -1 : 0;
+	}
+
+	private static int end(String value, int begin) {
+		int end = value.indexOf(SEPARATOR, begin);
+		return end < 0 ? value.length() : end;
+	}
+
+	private static int next(String value, int end) {
+		return end < value.length() ? end + 1 : -1;
+	}
+
+	private static int trimStart(String value, int begin, int end) {
+		while (begin < end && value.charAt(begin) <= ' ') {
+			begin++;
+		}
+		return begin;
+	}
+
+	private static int trimEnd(String value, int begin, int end) {
+		while (end > begin && value.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		return end;
+	}
+
+	private static NumberFormatException numberFormat(String value, int begin, int end) {
+		return new NumberFormatException("For input string: \"" + value.substring(begin, end) + "\"");
+	}
+}
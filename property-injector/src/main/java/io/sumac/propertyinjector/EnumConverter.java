@@ -0,0 +1,63 @@
+package io.sumac.propertyinjector;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Converts to enum constants by exact name, or else ignoring case with
+ * {@code -} standing for {@code _}.
+ */
+final class EnumConverter<E extends Enum<E>> implements TypeConverter<E> {
+
+	private static final ClassValue<EnumConverter<?>> CONVERTERS = new ClassValue<EnumConverter<?>>() {
+		@Override
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		protected EnumConverter<?> computeValue(Class<?> type) {
+			return new EnumConverter(type);
+		}
+	};
+
+	private final Class<E> type;
+	private final Map<String, E> names = new HashMap<>();
+	private final Map<String, E> normalized = new HashMap<>();
+
+	private EnumConverter(Class<E> type) {
+		this.type = type;
+		for (E constant : type.getEnumConstants()) {
+			names.put(constant.name(), constant);
+			String key = normalize(constant.name());
+			if (normalized.containsKey(key)) {
+				// ambiguous, so only the exact names match
+				normalized.put(key, null);
+			} else {
+				normalized.put(key, constant);
+			}
+		}
+	}
+
+	static EnumConverter<?> of(Class<?> type) {
+		return CONVERTERS.get(type);
+	}
+
+	@Override
+	public Class<E> getType() {
+		return type;
+	}
+
+	@Override
+	public E convert(String value) {
+		E constant = names.get(value);
+		if (constant == null) {
+			constant = normalized.get(normalize(value.trim()));
+			if (constant == null) {
+				throw PropertyInjectorException.invalidValue(type, value);
+			}
+		}
+		return constant;
+	}
+
+	private static String normalize(String name) {
+		return name.toUpperCase(Locale.ROOT).replace('-', '_');
+	}
+}
@@ -0,0 +1,123 @@
+package io.sumac.propertyinjector;
+
+import java.util.Optional;
+
+/**
+ * Base class of the {@code <Model>Injector} classes written by the
+ * {@code property-injector-processor} annotation processor. When one exists
+ * next to a model class {@link PropertyInjector} uses it instead of
+ * reflection.
+ */
+public abstract class GeneratedInjector<T> {
+
+	private final Class<T> type;
+
+	protected GeneratedInjector(Class<T> type) {
+		this.type = type;
+	}
+
+	public final Class<T> getType() {
+		return type;
+	}
+
+	public abstract T newInstance(PropertySource source);
+
+	public abstract void fillIn(T obj, PropertySource source);
+
+	/**
+	 * {@link #newInstance}, with failures of the model's code wrapped like
+	 * those of the reflective path.
+	 */
+	final T create(PropertySource source) {
+		try {
+			return newInstance(source);
+		} catch (PropertyInjectorException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			throw PropertyInjectorException.wrapCheckedReflectionExceptions(e);
+		}
+	}
+
+	final void fillInObject(Object obj, PropertySource source) {
+		try {
+			fillIn(type.cast(obj), source);
+		} catch (PropertyInjectorException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			throw PropertyInjectorException.wrapCheckedReflectionExceptions(e);
+		}
+	}
+
+	protected static long longValue(PropertySource source, String name) {
+		if (PropertySourceDecorator.prefersTypedReads(source)) {
+			return value(source, source.getLong(name), name, false);
+		}
+		return Long.parseLong(value(source, source.getString(name), name, false));
+	}
+
+	protected static int intValue(PropertySource source, String name) {
+		if (PropertySourceDecorator.prefersTypedReads(source)) {
+			return value(source, source.getInt(name), name, false);
+		}
+		return Integer.parseInt(value(source, source.getString(name), name, false));
+	}
+
+	protected static double doubleValue(PropertySource source, String name) {
+		if (PropertySourceDecorator.prefersTypedReads(source)) {
+			return value(source, source.getDouble(name), name, false);
+		}
+		return Double.parseDouble(value(source, source.getString(name), name, false));
+	}
+
+	protected static float floatValue(PropertySource source, String name) {
+		if (PropertySourceDecorator.prefersTypedReads(source)) {
+			return value(source, source.getFloat(name), name, false);
+		}
+		return Float.parseFloat(value(source, source.getString(name), name, false));
+	}
+
+	protected static boolean booleanValue(PropertySource source, String name) {
+		if (PropertySourceDecorator.prefersTypedReads(source)) {
+			return value(source, source.getBoolean(name), name, false);
+		}
+		return Boolean.parseBoolean(value(source, source.getString(name), name, false));
+	}
+
+	protected static long longValue(Optional<String> value, String name) {
+		return Long.parseLong(value(value, name, false));
+	}
+
+	protected static int intValue(Optional<String> value, String name) {
+		return Integer.parseInt(value(value, name, false));
+	}
+
+	protected static double doubleValue(Optional<String> value, String name) {
+		return Double.parseDouble(value(value, name, false));
+	}
+
+	protected static float floatValue(Optional<String> value, String name) {
+		return Float.parseFloat(value(value, name, false));
+	}
+
+	protected static boolean booleanValue(Optional<String> value, String name) {
+		return Boolean.parseBoolean(value(value, name, false));
+	}
+
+	/**
+	 * Like {@link #value(Optional, String, boolean)}, but names the missing
+	 * property with the prefix {@code source} adds.
+	 */
+	protected static <V> V value(PropertySource source, Optional<V> value, String name, boolean optional) {
+		return value.isPresent() ? value.get() : value(value, PropertySourceDecorator.fullName(source, name), optional);
+	}
+
+	protected static <V> V value(Optional<V> value, String name, boolean optional) {
+		if (value.isPresent()) {
+			return value.get();
+		} else if (optional) {
+			return null;
+		} else {
+			throw PropertyInjectorException.propertyNotFound(name);
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package io.sumac.propertyinjector;
+
+import java.util.Optional;
+
+final class GeneratedInjectors {
+
+	static final String SUFFIX = "Injector";
+
+	private static final ClassValue<Optional<GeneratedInjector<?>>> INJECTORS = new ClassValue<Optional<GeneratedInjector<?>>>() {
+		@Override
+		protected Optional<GeneratedInjector<?>> computeValue(Class<?> type) {
+			return load(type);
+		}
+	};
+
+	private GeneratedInjectors() {
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T> Optional<GeneratedInjector<T>> of(Class<T> type) {
+		return INJECTORS.get(type).map(injector -> (GeneratedInjector<T>) injector);
+	}
+
+	private static Optional<GeneratedInjector<?>> load(Class<?> type) {
+		try {
+			Class<?> candidate = Class.forName(type.getName() + SUFFIX, false, type.getClassLoader());
+			if (!GeneratedInjector.class.isAssignableFrom(candidate)) {
+				return Optional.empty();
+			}
+			GeneratedInjector<?> injector = (GeneratedInjector<?>) candidate.getConstructor().newInstance();
+			if (injector.getType() != type) {
+				return Optional.empty();
+			}
+			return Optional.of(injector);
+		} catch (ClassNotFoundException | LinkageError e) {
+			return Optional.empty();
+		} catch (ReflectiveOperationException e) {
+			throw PropertyInjectorException.wrapCheckedReflectionExceptions(e);
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package io.sumac.propertyinjector;
+
+/**
+ * Receives timings and events from a {@link PropertyInjector}, see
+ * {@link PropertyInjector#withListener(InjectionListener)}. Every method
+ * does nothing by default. Injectors without a listener use {@link #NONE}
+ * and do not read the clock at all. {@link InjectionMetrics} keeps the
+ * events in memory.
+ */
+public interface InjectionListener {
+
+	InjectionListener NONE = new InjectionListener() {
+	};
+
+	/**
+	 * The reflective work for {@code type} took {@code nanos}. Plans are
+	 * cached and shared, so this is reported once per plan, by the first
+	 * injector with a listener that uses it. The plans of
+	 * {@code @PropertyPrefix} fields are reported with the plan of their
+	 * class.
+	 */
+	default void planBuilt(Class<?> type, long nanos) {
+	}
+
+	/**
+	 * Creating or filling in an instance of {@code type} took {@code nanos},
+	 * including the resolution of its properties.
+	 */
+	default void injected(Class<?> type, long nanos) {
+	}
+
+	/**
+	 * Reading and parsing the property {@code name} took {@code nanos}.
+	 */
+	default void propertyResolved(String name, long nanos) {
+	}
+
+	/**
+	 * A {@link CachingPropertySource} had a value for {@code name}.
+	 */
+	default void cacheHit(String name) {
+	}
+
+	/**
+	 * A {@link CachingPropertySource} had to read {@code name}.
+	 */
+	default void cacheMiss(String name) {
+	}
+
+	/**
+	 * Creating or filling in an instance of {@code type} failed.
+	 */
+	default void failed(Class<?> type, RuntimeException e) {
+	}
+}
@@ -0,0 +1,93 @@
+package io.sumac.propertyinjector;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link InjectionListener} that keeps plan build times and injection
+ * latencies per class, a {@link LatencyHistogram} of property resolution
+ * times, and counts of cache hits, misses and failures. {@link #toString()}
+ * gives a readable report.
+ */
+public final class InjectionMetrics implements InjectionListener {
+
+	private final Map<Class<?>, Long> planBuildNanos = new ConcurrentHashMap<>();
+	private final Map<Class<?>, LatencyHistogram> injections = new ConcurrentHashMap<>();
+	private final LatencyHistogram resolutions = new LatencyHistogram();
+	private final LongAdder cacheHits = new LongAdder();
+	private final LongAdder cacheMisses = new LongAdder();
+	private final LongAdder failures = new LongAdder();
+
+	@Override
+	public void planBuilt(Class<?> type, long nanos) {
+		planBuildNanos.put(type, nanos);
+	}
+
+	@Override
+	public void injected(Class<?> type, long nanos) {
+		injections.computeIfAbsent(type, t -> new LatencyHistogram()).record(nanos);
+	}
+
+	@Override
+	public void propertyResolved(String name, long nanos) {
+		resolutions.record(nanos);
+	}
+
+	@Override
+	public void cacheHit(String name) {
+		cacheHits.increment();
+	}
+
+	@Override
+	public void cacheMiss(String name) {
+		cacheMisses.increment();
+	}
+
+	@Override
+	public void failed(Class<?> type, RuntimeException e) {
+		failures.increment();
+	}
+
+	public Map<Class<?>, Long> getPlanBuildNanos() {
+		return Collections.unmodifiableMap(planBuildNanos);
+	}
+
+	public Map<Class<?>, LatencyHistogram> getInjectionLatencies() {
+		return Collections.unmodifiableMap(injections);
+	}
+
+	public LatencyHistogram getResolutionLatency() {
+		return resolutions;
+	}
+
+	public long getCacheHits() {
+		return cacheHits.sum();
+	}
+
+	public long getCacheMisses() {
+		return cacheMisses.sum();
+	}
+
+	public long getFailures() {
+		return failures.sum();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder report = new StringBuilder();
+		for (Map.Entry<Class<?>, Long> entry : planBuildNanos.entrySet()) {
+			report.append("plan ").append(entry.getKey().getName()).append(": ").append(entry.getValue())
+					.append("ns\n");
+		}
+		for (Map.Entry<Class<?>, LatencyHistogram> entry : injections.entrySet()) {
+			report.append("inject ").append(entry.getKey().getName()).append(": ").append(entry.getValue())
+					.append('\n');
+		}
+		report.append("resolve: ").append(resolutions).append('\n');
+		report.append("cache: hits=").append(getCacheHits()).append(" misses=").append(getCacheMisses()).append('\n');
+		report.append("failures: ").append(getFailures()).append('\n');
+		return report.toString();
+	}
+}
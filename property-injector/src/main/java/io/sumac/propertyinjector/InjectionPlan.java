@@ -0,0 +1,737 @@
+package io.sumac.propertyinjector;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import io.sumac.propertyinjector.annotations.Property;
+import io.sumac.propertyinjector.annotations.PropertyPrefix;
+
+/**
+ * The reflective work needed to inject a class, done once and cached per
+ * {@link ConverterRegistry}.
+ */
+final class InjectionPlan {
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+	private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+	private final Class<?> type;
+	private final ConverterRegistry registry;
+	private final List<MemberBinding> members;
+	private final List<NestedBinding> nested;
+	private final long buildNanos;
+	private final AtomicBoolean buildReported = new AtomicBoolean();
+	private final ShadowState shadows = new ShadowState();
+	private volatile ConstructorBinding constructor;
+	private volatile CompiledInjector compiled;
+	private volatile boolean acyclic;
+
+	private InjectionPlan(Class<?> type, ConverterRegistry registry, List<MemberBinding> members,
+			List<NestedBinding> nested, long buildNanos) {
+		this.type = type;
+		this.registry = registry;
+		this.buildNanos = buildNanos;
+		this.members = members;
+		this.nested = nested;
+	}
+
+	/**
+	 * The cached plan of {@code type} for the default converters.
+	 */
+	static InjectionPlan of(Class<?> type) {
+		return ConverterRegistry.defaults().plan(type);
+	}
+
+	static InjectionPlan build(Class<?> type) {
+		return build(type, ConverterRegistry.defaults());
+	}
+
+	static InjectionPlan build(Class<?> type, ConverterRegistry registry) {
+		long start = System.nanoTime();
+		List<Class<?>> hierarchy = hierarchy(type);
+		Set<Method> setters = setters(hierarchy);
+		List<MemberBinding> members = new ArrayList<>();
+		List<NestedBinding> nested = new ArrayList<>();
+		for (Class<?> declaring : hierarchy) {
+			for (Field field : declaring.getDeclaredFields()) {
+				if (field.isAnnotationPresent(Property.class)) {
+					members.add(FieldBinding.of(field, registry));
+				} else if (field.isAnnotationPresent(PropertyPrefix.class)) {
+					nested.add(NestedBinding.of(field, registry));
+				}
+			}
+			for (Method method : declaring.getDeclaredMethods()) {
+				if (setters.contains(method)) {
+					members.add(SetterBinding.of(method, registry));
+				}
+			}
+		}
+		return new InjectionPlan(type, registry, Collections.unmodifiableList(members),
+				Collections.unmodifiableList(nested), System.nanoTime() - start);
+	}
+
+	/**
+	 * {@code type} and its superclasses below {@code Object}, base class
+	 * first.
+	 */
+	private static List<Class<?>> hierarchy(Class<?> type) {
+		List<Class<?>> hierarchy = new ArrayList<>();
+		for (Class<?> current = type; current != null && current != Object.class; current = current
+				.getSuperclass()) {
+			hierarchy.add(current);
+		}
+		Collections.reverse(hierarchy);
+		return hierarchy;
+	}
+
+	/**
+	 * The {@link Property} methods to inject. Of a method and the ones it
+	 * overrides, only the most derived annotated one is kept, and invoking it
+	 * dispatches to the actual override; an override without the annotation
+	 * keeps the inherited binding. Bridge methods, which carry the annotations
+	 * of the method they bridge to, override but are never injected.
+	 */
+	private static Set<Method> setters(List<Class<?>> hierarchy) {
+		Set<Method> setters = new HashSet<>();
+		Set<String> bound = new HashSet<>();
+		for (int i = hierarchy.size() - 1; i >= 0; i--) {
+			for (Method method : hierarchy.get(i).getDeclaredMethods()) {
+				if (!method.isAnnotationPresent(Property.class)) {
+					continue;
+				}
+				int modifiers = method.getModifiers();
+				if (method.isBridge()) {
+					bound.add(signature(method));
+				} else if (Modifier.isPrivate(modifiers) || Modifier.isStatic(modifiers)
+						|| bound.add(signature(method))) {
+					setters.add(method);
+				}
+			}
+		}
+		return setters;
+	}
+
+	/**
+	 * What an overriding method has in common with the method it overrides;
+	 * package-private methods are only overridden within their package.
+	 */
+	private static String signature(Method method) {
+		String signature = method.getName() + Arrays.toString(method.getParameterTypes());
+		int modifiers = method.getModifiers();
+		if (Modifier.isPublic(modifiers) || Modifier.isProtected(modifiers)) {
+			return signature;
+		}
+		String className = method.getDeclaringClass().getName();
+		return className.substring(0, Math.max(0, className.lastIndexOf('.'))) + " " + signature;
+	}
+
+	Class<?> getType() {
+		return type;
+	}
+
+	List<MemberBinding> getMembers() {
+		return members;
+	}
+
+	List<NestedBinding> getNested() {
+		return nested;
+	}
+
+	long getBuildNanos() {
+		return buildNanos;
+	}
+
+	/**
+	 * Whether the build time of this plan is still to be reported; true only
+	 * for the first caller.
+	 */
+	boolean claimBuildReport() {
+		return !buildReported.get() && buildReported.compareAndSet(false, true);
+	}
+
+	ConstructorBinding getConstructor() {
+		ConstructorBinding binding = constructor;
+		if (binding == null) {
+			binding = ConstructorBinding.of(type, registry);
+			constructor = binding;
+		}
+		return binding;
+	}
+
+	CompiledInjector getCompiled() {
+		CompiledInjector injector = compiled;
+		if (injector == null) {
+			injector = CompiledInjector.compile(this);
+			compiled = injector;
+		}
+		return injector;
+	}
+
+	Object construct(PropertySource source, AccessStrategy strategy) throws ReflectiveOperationException {
+		checkAcyclic();
+		if (strategy == AccessStrategy.COMPILED) {
+			return getCompiled().construct(source);
+		}
+		Object obj = getConstructor().newInstance(source, strategy);
+		fillIn(obj, source, strategy);
+		return obj;
+	}
+
+	void fillIn(Object obj, PropertySource source, AccessStrategy strategy) throws ReflectiveOperationException {
+		checkAcyclic();
+		if (strategy == AccessStrategy.COMPILED) {
+			getCompiled().fillIn(obj, source);
+			return;
+		}
+		for (MemberBinding member : members) {
+			member.inject(obj, source, strategy);
+		}
+		for (NestedBinding binding : nested) {
+			binding.inject(obj, source, strategy);
+		}
+	}
+
+	/**
+	 * Checks that this class and the types of its nested fields could be
+	 * created by {@link #construct}, and adds every required key missing from
+	 * {@code source} to {@code missing}. Nothing is instantiated.
+	 */
+	void validate(PropertySource source, String prefix, Set<String> missing) {
+		checkAcyclic();
+		for (Slot slot : getConstructor().slots) {
+			addIfMissing(slot, source, prefix, missing);
+		}
+		for (MemberBinding member : members) {
+			addIfMissing(member.getSlot(), source, prefix, missing);
+		}
+		for (NestedBinding binding : nested) {
+			registry.plan(binding.getField().getType()).validate(source, prefix + binding.getPrefix(), missing);
+		}
+	}
+
+	/**
+	 * Throws if a {@link PropertyPrefix} field of this class, or of the classes
+	 * of those fields, leads back to a class on the way, which would nest
+	 * without end.
+	 */
+	private void checkAcyclic() {
+		if (!acyclic) {
+			checkAcyclic(new ArrayList<>());
+		}
+	}
+
+	private void checkAcyclic(List<Class<?>> path) {
+		int start = path.indexOf(type);
+		if (start >= 0) {
+			List<Class<?>> cycle = new ArrayList<>(path.subList(start, path.size()));
+			cycle.add(type);
+			throw PropertyInjectorException.prefixCycle(cycle);
+		}
+		if (acyclic) {
+			return;
+		}
+		path.add(type);
+		for (NestedBinding binding : nested) {
+			registry.plan(binding.getField().getType()).checkAcyclic(path);
+		}
+		path.remove(path.size() - 1);
+		acyclic = true;
+	}
+
+	private static void addIfMissing(Slot slot, PropertySource source, String prefix, Set<String> missing) {
+		if (slot.isMissing(source, prefix)) {
+			missing.add(prefix + slot.getName());
+		}
+	}
+
+	/**
+	 * Injects only the fields and setters bound to one of the {@code changed}
+	 * keys, which are relative to {@code prefix}. Constructor arguments are not
+	 * injected again. The compiled strategy has no per-member entry points, so
+	 * it falls back to method handles here.
+	 */
+	void reinject(Object obj, PropertySource source, AccessStrategy strategy, Set<String> changed, String prefix)
+			throws ReflectiveOperationException {
+		checkAcyclic();
+		AccessStrategy memberStrategy = strategy == AccessStrategy.COMPILED ? AccessStrategy.METHOD_HANDLES : strategy;
+		for (MemberBinding member : members) {
+			if (isChanged(changed, prefix + member.getSlot().getName())) {
+				member.inject(obj, source, memberStrategy);
+			}
+		}
+		for (NestedBinding binding : nested) {
+			binding.reinject(obj, source, memberStrategy, changed, prefix);
+		}
+	}
+
+	/**
+	 * Injects only the fields and setters whose value differs from the one
+	 * last injected into {@code obj} by this method, and adds their keys,
+	 * relative to {@code prefix}, to {@code changed}. Lazy slots are resolved
+	 * to compare them. Like {@link #reinject}, the compiled strategy falls
+	 * back to method handles.
+	 */
+	void fillInChanged(Object obj, PropertySource source, AccessStrategy strategy, String prefix,
+			Set<String> changed) throws ReflectiveOperationException {
+		fillInChanged(obj, source, strategy, prefix, changed, false);
+	}
+
+	/**
+	 * When {@code created}, {@code obj} was just filled in from {@code source},
+	 * so its values are only recorded, not written again.
+	 */
+	private void fillInChanged(Object obj, PropertySource source, AccessStrategy strategy, String prefix,
+			Set<String> changed, boolean created) throws ReflectiveOperationException {
+		checkAcyclic();
+		AccessStrategy memberStrategy = strategy == AccessStrategy.COMPILED ? AccessStrategy.METHOD_HANDLES : strategy;
+		Object[] last = shadows.get(obj, members.size());
+		synchronized (last) {
+			for (int i = 0; i < last.length; i++) {
+				MemberBinding member = members.get(i);
+				Slot slot = member.getSlot();
+				Object value = slot.resolveNow(source);
+				if ((value == null && slot.isPrimitive())
+						|| (last[i] != ShadowState.UNSET && Objects.deepEquals(last[i], value))) {
+					continue;
+				}
+				if (!created) {
+					member.write(obj, slot.isLazy() ? Lazy.of(() -> value) : value, memberStrategy);
+				}
+				last[i] = value;
+				changed.add(prefix + slot.getName());
+			}
+		}
+		for (NestedBinding binding : nested) {
+			binding.fillInChanged(obj, source, memberStrategy, prefix, changed, created);
+		}
+	}
+
+	/**
+	 * Whether {@code name}, or one of its indexed keys, is in {@code changed}.
+	 */
+	private static boolean isChanged(Set<String> changed, String name) {
+		if (changed.contains(name)) {
+			return true;
+		}
+		for (String key : changed) {
+			if (key.length() > name.length() && key.startsWith(name) && key.charAt(name.length()) == '[') {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * A built-in type if there is one, otherwise the converter registered for
+	 * the exact declared type. {@code Supplier<T>} and {@code Lazy<T>} are
+	 * resolved lazily to the slot of {@code T}.
+	 */
+	private static Slot slot(Property property, Class<?> type, Type genericType, ConverterRegistry registry,
+			Supplier<PropertyInjectorException> unsupported) {
+		if ((type == Supplier.class || type == Lazy.class) && genericType instanceof ParameterizedType) {
+			Type element = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+			Type raw = element instanceof ParameterizedType ? ((ParameterizedType) element).getRawType() : element;
+			if (!(raw instanceof Class) || raw == Supplier.class || raw == Lazy.class) {
+				throw unsupported.get();
+			}
+			return slot(property, (Class<?>) raw, element, registry, unsupported).lazy();
+		}
+		Optional<ValueType> valueType = ValueType.of(genericType);
+		if (valueType.isPresent()) {
+			return new Slot(property, valueType.get(), type);
+		}
+		TypeConverter<?> converter = (genericType == type ? registry.find(type) : Optional.<TypeConverter<?>>empty())
+				.orElseThrow(unsupported);
+		return new Slot(property, converter);
+	}
+
+	private static MethodHandle unreflect(ReflectiveCall call) {
+		try {
+			return call.get();
+		} catch (IllegalAccessException e) {
+			throw PropertyInjectorException.wrapCheckedReflectionExceptions(e);
+		}
+	}
+
+	private static MethodHandle writer(MethodHandle handle, boolean isStatic) {
+		if (isStatic) {
+			handle = MethodHandles.dropArguments(handle, 0, Object.class);
+		}
+		return handle.asType(MethodType.methodType(void.class, Object.class, handle.type().parameterType(1)));
+	}
+
+	@FunctionalInterface
+	private interface ReflectiveCall {
+		MethodHandle get() throws IllegalAccessException;
+	}
+
+	interface MemberBinding {
+		Slot getSlot();
+
+		MethodHandle getWriter();
+
+		void inject(Object obj, PropertySource source, AccessStrategy strategy)
+				throws ReflectiveOperationException;
+
+		/**
+		 * Writes an already resolved, boxed value.
+		 */
+		void write(Object obj, Object value, AccessStrategy strategy) throws ReflectiveOperationException;
+	}
+
+	static final class FieldBinding implements MemberBinding {
+
+		private final Field field;
+		private final MethodHandle writer;
+		private final MethodHandle setter;
+		private final Slot slot;
+
+		private FieldBinding(Field field, Slot slot) {
+			this.field = field;
+			this.writer = writer(unreflect(() -> LOOKUP.unreflectSetter(field)),
+					Modifier.isStatic(field.getModifiers()));
+			this.setter = writer.asType(SETTER_TYPE);
+			this.slot = slot;
+		}
+
+		static FieldBinding of(Field field, ConverterRegistry registry) {
+			Slot slot = slot(field.getAnnotation(Property.class), field.getType(), field.getGenericType(), registry,
+					() -> PropertyInjectorException.unsupportedType(field));
+			field.setAccessible(true);
+			return new FieldBinding(field, slot);
+		}
+
+		Field getField() {
+			return field;
+		}
+
+		@Override
+		public Slot getSlot() {
+			return slot;
+		}
+
+		@Override
+		public MethodHandle getWriter() {
+			return writer;
+		}
+
+		@Override
+		public void inject(Object obj, PropertySource source, AccessStrategy strategy)
+				throws IllegalAccessException, InvocationTargetException {
+			if (slot.isPrimitive()) {
+				injectPrimitive(obj, source, strategy);
+				return;
+			}
+			write(obj, slot.resolve(source), strategy);
+		}
+
+		@Override
+		public void write(Object obj, Object value, AccessStrategy strategy)
+				throws IllegalAccessException, InvocationTargetException {
+			if (strategy == AccessStrategy.METHOD_HANDLES) {
+				try {
+					setter.invokeExact(obj, value);
+				} catch (Throwable t) {
+					throw new InvocationTargetException(t);
+				}
+			} else {
+				field.set(obj, value);
+			}
+		}
+
+		private void injectPrimitive(Object obj, PropertySource source, AccessStrategy strategy)
+				throws IllegalAccessException, InvocationTargetException {
+			if (PropertySourceDecorator.prefersTypedReads(source)) {
+				Object parsed = slot.resolveTyped(source);
+				if (parsed != null) {
+					write(obj, parsed, strategy);
+				}
+				return;
+			}
+			String value = slot.resolveString(source);
+			if (value == null) {
+				return;
+			}
+			if (strategy == AccessStrategy.METHOD_HANDLES) {
+				try {
+					slot.getPrimitive().invoke(writer, obj, value);
+				} catch (Throwable t) {
+					throw new InvocationTargetException(t);
+				}
+			} else {
+				slot.getPrimitive().set(field, obj, value);
+			}
+		}
+	}
+
+	static final class SetterBinding implements MemberBinding {
+
+		private final Method method;
+		private final MethodHandle writer;
+		private final MethodHandle setter;
+		private final Slot slot;
+
+		private SetterBinding(Method method, Slot slot) {
+			this.method = method;
+			this.writer = writer(unreflect(() -> LOOKUP.unreflect(method)), Modifier.isStatic(method.getModifiers()));
+			this.setter = writer.asType(SETTER_TYPE);
+			this.slot = slot;
+		}
+
+		static SetterBinding of(Method method, ConverterRegistry registry) {
+			final int count = method.getParameterCount();
+			if (count < 1) {
+				throw PropertyInjectorException.noSetterArgs(method);
+			} else if (count > 1) {
+				throw PropertyInjectorException.tooManySetterArgs(method);
+			}
+			Parameter parameter = method.getParameters()[0];
+			Slot slot = slot(method.getAnnotation(Property.class), parameter.getType(),
+					parameter.getParameterizedType(), registry, () -> PropertyInjectorException.unsupportedType(parameter));
+			method.setAccessible(true);
+			return new SetterBinding(method, slot);
+		}
+
+		Method getMethod() {
+			return method;
+		}
+
+		@Override
+		public Slot getSlot() {
+			return slot;
+		}
+
+		@Override
+		public MethodHandle getWriter() {
+			return writer;
+		}
+
+		@Override
+		public void inject(Object obj, PropertySource source, AccessStrategy strategy)
+				throws IllegalAccessException, InvocationTargetException {
+			if (slot.isPrimitive()) {
+				injectPrimitive(obj, source, strategy);
+				return;
+			}
+			write(obj, slot.resolve(source), strategy);
+		}
+
+		@Override
+		public void write(Object obj, Object value, AccessStrategy strategy)
+				throws IllegalAccessException, InvocationTargetException {
+			if (strategy == AccessStrategy.METHOD_HANDLES) {
+				try {
+					setter.invokeExact(obj, value);
+				} catch (Throwable t) {
+					throw new InvocationTargetException(t);
+				}
+			} else {
+				method.invoke(obj, value);
+			}
+		}
+
+		private void injectPrimitive(Object obj, PropertySource source, AccessStrategy strategy)
+				throws IllegalAccessException, InvocationTargetException {
+			if (PropertySourceDecorator.prefersTypedReads(source)) {
+				Object parsed = slot.resolveTyped(source);
+				if (parsed != null) {
+					write(obj, parsed, strategy);
+				}
+				return;
+			}
+			String value = slot.resolveString(source);
+			if (value == null) {
+				return;
+			}
+			if (strategy == AccessStrategy.METHOD_HANDLES) {
+				try {
+					slot.getPrimitive().invoke(writer, obj, value);
+				} catch (Throwable t) {
+					throw new InvocationTargetException(t);
+				}
+			} else {
+				method.invoke(obj, slot.getPrimitive().box(value));
+			}
+		}
+	}
+
+	static final class NestedBinding {
+
+		private final Field field;
+		private final String prefix;
+		private final ConverterRegistry registry;
+		private final Map<String, String> names = new ConcurrentHashMap<>();
+
+		private NestedBinding(Field field, String prefix, ConverterRegistry registry) {
+			this.field = field;
+			this.prefix = prefix;
+			this.registry = registry;
+		}
+
+		static NestedBinding of(Field field, ConverterRegistry registry) {
+			Class<?> type = field.getType();
+			if (type.isPrimitive() || type.isArray() || ValueType.of(field.getGenericType()).isPresent()
+					|| registry.find(type).isPresent()) {
+				throw PropertyInjectorException.unsupportedPrefixType(field);
+			}
+			String prefix = field.getAnnotation(PropertyPrefix.class).value();
+			field.setAccessible(true);
+			return new NestedBinding(field, prefix.isEmpty() ? prefix : prefix + ".", registry);
+		}
+
+		Field getField() {
+			return field;
+		}
+
+		String getPrefix() {
+			return prefix;
+		}
+
+		void inject(Object obj, PropertySource source, AccessStrategy strategy) throws ReflectiveOperationException {
+			PropertySource prefixed = new PrefixedPropertySource(source, prefix, names);
+			Object current = field.get(obj);
+			if (current == null) {
+				field.set(obj, construct(field.getType(), prefixed, strategy));
+			} else {
+				fillIn(current, prefixed, strategy);
+			}
+		}
+
+		void reinject(Object obj, PropertySource source, AccessStrategy strategy, Set<String> changed, String prefix)
+				throws ReflectiveOperationException {
+			String nestedPrefix = prefix + this.prefix;
+			Object current = field.get(obj);
+			if (current != null) {
+				registry.plan(current.getClass()).reinject(current, new PrefixedPropertySource(source, this.prefix, names),
+						strategy, changed, nestedPrefix);
+				return;
+			}
+			for (String key : changed) {
+				if (key.startsWith(nestedPrefix)) {
+					inject(obj, source, strategy);
+					return;
+				}
+			}
+		}
+
+		void fillInChanged(Object obj, PropertySource source, AccessStrategy strategy, String prefix,
+				Set<String> changed, boolean created) throws ReflectiveOperationException {
+			PropertySource prefixed = new PrefixedPropertySource(source, this.prefix, names);
+			Object current = field.get(obj);
+			boolean constructed = created;
+			if (current == null) {
+				current = construct(field.getType(), prefixed, strategy);
+				field.set(obj, current);
+				constructed = true;
+			}
+			registry.plan(current.getClass()).fillInChanged(current, prefixed, strategy, prefix + this.prefix,
+					changed, constructed);
+		}
+
+		private Object construct(Class<?> type, PropertySource source, AccessStrategy strategy)
+				throws ReflectiveOperationException {
+			Optional<? extends GeneratedInjector<?>> generated = GeneratedInjectors.of(type);
+			if (generated.isPresent()) {
+				return generated.get().create(source);
+			}
+			return registry.plan(type).construct(source, strategy);
+		}
+
+		private void fillIn(Object obj, PropertySource source, AccessStrategy strategy)
+				throws ReflectiveOperationException {
+			Optional<? extends GeneratedInjector<?>> generated = GeneratedInjectors.of(obj.getClass());
+			if (generated.isPresent()) {
+				generated.get().fillInObject(obj, source);
+				return;
+			}
+			registry.plan(obj.getClass()).fillIn(obj, source, strategy);
+		}
+	}
+
+	static final class ConstructorBinding {
+
+		private final Constructor<?> constructor;
+		private final MethodHandle handle;
+		private final MethodHandle factory;
+		private final Slot[] slots;
+
+		private ConstructorBinding(Constructor<?> constructor, Slot[] slots) {
+			this.constructor = constructor;
+			this.handle = unreflect(() -> LOOKUP.unreflectConstructor(constructor));
+			this.factory = handle.asSpreader(Object[].class, slots.length).asType(CONSTRUCTOR_TYPE);
+			this.slots = slots;
+		}
+
+		static ConstructorBinding of(Class<?> type, ConverterRegistry registry) {
+			Constructor<?>[] constructors = type.getDeclaredConstructors();
+			if (constructors.length > 1) {
+				throw PropertyInjectorException.tooManyConstructors(constructors.length);
+			}
+			Constructor<?> constructor = constructors[0];
+			Parameter[] parameters = constructor.getParameters();
+			for (Parameter parameter : parameters) {
+				if (!parameter.isAnnotationPresent(Property.class)) {
+					throw PropertyInjectorException.constructorArgNotAnnotated(parameter);
+				}
+			}
+			Slot[] slots = new Slot[parameters.length];
+			for (int i = 0; i < parameters.length; i++) {
+				Parameter parameter = parameters[i];
+				slots[i] = slot(parameter.getAnnotation(Property.class), parameter.getType(),
+						parameter.getParameterizedType(), registry, () -> PropertyInjectorException.unsupportedType(parameter));
+			}
+			constructor.setAccessible(true);
+			return new ConstructorBinding(constructor, slots);
+		}
+
+		Constructor<?> getConstructor() {
+			return constructor;
+		}
+
+		MethodHandle getHandle() {
+			return handle;
+		}
+
+		Slot[] getSlots() {
+			return slots.clone();
+		}
+
+		Object newInstance(PropertySource source, AccessStrategy strategy)
+				throws InstantiationException, IllegalAccessException, InvocationTargetException {
+			Object[] args = new Object[slots.length];
+			for (int i = 0; i < slots.length; i++) {
+				args[i] = slots[i].resolve(source);
+			}
+			if (strategy == AccessStrategy.METHOD_HANDLES) {
+				try {
+					return (Object) factory.invokeExact(args);
+				} catch (Throwable t) {
+					throw new InvocationTargetException(t);
+				}
+			}
+			return constructor.newInstance(args);
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package io.sumac.propertyinjector;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * One canonical instance per class, for the property source it was built
+ * from. A source that is not the one of the cached instance, such as the
+ * next snapshot of a {@link PropertyWatcher}, replaces it. Reads do not
+ * lock; threads that miss at the same time may each build an instance, but
+ * all of them return the one that was published first.
+ */
+final class InstanceCache {
+
+	private final Map<Class<?>, Canonical> instances = new ConcurrentHashMap<>();
+
+	<T> T get(Class<T> type, PropertySource source, Supplier<T> factory) {
+		Canonical current = instances.get(type);
+		if (current != null && current.source == source) {
+			return type.cast(current.instance);
+		}
+		Canonical built = new Canonical(source, factory.get());
+		while (true) {
+			if (current == null ? instances.putIfAbsent(type, built) == null
+					: instances.replace(type, current, built)) {
+				return type.cast(built.instance);
+			}
+			current = instances.get(type);
+			if (current != null && current.source == source) {
+				return type.cast(current.instance);
+			}
+		}
+	}
+
+	private static final class Canonical {
+
+		private final PropertySource source;
+		private final Object instance;
+
+		private Canonical(PropertySource source, Object instance) {
+			this.source = source;
+			this.instance = instance;
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package io.sumac.propertyinjector;
+
+import java.util.Optional;
+
+/**
+ * Replaces every string read from its delegate with the canonical copy held
+ * by a {@link StringTable}. Typed values are read from the delegate as they
+ * are.
+ */
+final class InterningPropertySource implements PropertySourceDecorator {
+
+	private final PropertySource delegate;
+	private final boolean typedReads;
+	private final StringTable strings;
+
+	InterningPropertySource(PropertySource delegate, StringTable strings) {
+		this.delegate = delegate;
+		this.typedReads = PropertySourceDecorator.prefersTypedReads(delegate);
+		this.strings = strings;
+	}
+
+	@Override
+	public boolean prefersTypedReads() {
+		return typedReads;
+	}
+
+	@Override
+	public Optional<String> getString(String name) {
+		Optional<String> value = delegate.getString(name);
+		if (!value.isPresent()) {
+			return value;
+		}
+		String canonical = strings.intern(value.get());
+		return canonical == value.get() ? value : Optional.of(canonical);
+	}
+
+	@Override
+	public Optional<Long> getLong(String name) {
+		return delegate.getLong(name);
+	}
+
+	@Override
+	public Optional<Integer> getInt(String name) {
+		return delegate.getInt(name);
+	}
+
+	@Override
+	public Optional<Double> getDouble(String name) {
+		return delegate.getDouble(name);
+	}
+
+	@Override
+	public Optional<Float> getFloat(String name) {
+		return delegate.getFloat(name);
+	}
+
+	@Override
+	public Optional<Boolean> getBoolean(String name) {
+		return delegate.getBoolean(name);
+	}
+}
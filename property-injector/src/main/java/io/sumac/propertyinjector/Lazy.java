@@ -0,0 +1,68 @@
+package io.sumac.propertyinjector;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Supplier;
+
+/**
+ * A value resolved on the first call to {@link #get()} and kept from then on.
+ */
+public final class Lazy<T> implements Supplier<T> {
+
+	private static final Object NULL = new Object();
+
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<Lazy, Object> VALUE = AtomicReferenceFieldUpdater
+			.newUpdater(Lazy.class, Object.class, "value");
+
+	private volatile Supplier<? extends T> resolver;
+	private volatile Object value;
+
+	private Lazy(Supplier<? extends T> resolver) {
+		this.resolver = resolver;
+	}
+
+	public static <T> Lazy<T> of(Supplier<? extends T> resolver) {
+		return new Lazy<>(Objects.requireNonNull(resolver));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get() {
+		Object current = value;
+		if (current == null) {
+			current = resolve();
+		}
+		return current == NULL ? null : (T) current;
+	}
+
+	public boolean isResolved() {
+		return value != null;
+	}
+
+	/**
+	 * Publishes the first resolved value and drops the resolver, so that a
+	 * resolved value does not keep its property source reachable.
+	 */
+	private Object resolve() {
+		Supplier<? extends T> current = resolver;
+		if (current == null) {
+			return value;
+		}
+		Object resolved = current.get();
+		if (resolved == null) {
+			resolved = NULL;
+		}
+		if (VALUE.compareAndSet(this, null, resolved)) {
+			resolver = null;
+			return resolved;
+		}
+		return value;
+	}
+
+	@Override
+	public String toString() {
+		Object current = value;
+		return current == null ? "Lazy[unresolved]" : "Lazy[" + (current == NULL ? null : current) + "]";
+	}
+}
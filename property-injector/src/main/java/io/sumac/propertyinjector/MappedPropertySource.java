@@ -0,0 +1,328 @@
+package io.sumac.propertyinjector;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * A properties file read through {@link FileChannel#map}, decoding each value
+ * the first time it is asked for. The file must not change while it is mapped.
+ */
+public final class MappedPropertySource implements PropertySource {
+
+	private static final int KEY_START = 0;
+	private static final int KEY_END = 1;
+	private static final int VALUE_START = 2;
+	private static final int VALUE_END = 3;
+	private static final int STRIDE = 4;
+
+	private final MappedByteBuffer buffer;
+	private final int[] offsets;
+	private final int[] hashes;
+	private final boolean[] escaped;
+	private final int[] slots;
+	private final int mask;
+	private final Optional<String>[] values;
+	private final int size;
+
+	@SuppressWarnings("unchecked")
+	private MappedPropertySource(MappedByteBuffer buffer, Scanner scanner) {
+		this.buffer = buffer;
+		this.offsets = scanner.offsets;
+		this.hashes = scanner.hashes;
+		this.escaped = scanner.escaped;
+		this.values = new Optional[scanner.count];
+		int capacity = Integer.highestOneBit(Math.max(1, scanner.count) * 2 - 1) << 1;
+		this.slots = new int[capacity];
+		this.mask = capacity - 1;
+		int size = 0;
+		for (int entry = 0; entry < scanner.count; entry++) {
+			int index = spread(hashes[entry]) & mask;
+			while (slots[index] != 0 && !sameKey(slots[index] - 1, entry)) {
+				index = (index + 1) & mask;
+			}
+			if (slots[index] == 0) {
+				size++;
+			}
+			slots[index] = entry + 1;
+		}
+		this.size = size;
+	}
+
+	public static MappedPropertySource open(Path file) {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long length = channel.size();
+			if (length > Integer.MAX_VALUE) {
+				throw PropertyInjectorException.tooLargeToMap(file, length);
+			}
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+			return new MappedPropertySource(buffer, new Scanner(buffer).scan());
+		} catch (IOException e) {
+			throw PropertyInjectorException.unreadable(file, e);
+		}
+	}
+
+	/**
+	 * The number of distinct keys.
+	 */
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Optional<String> getString(String name) {
+		int hash = name.hashCode();
+		int index = spread(hash) & mask;
+		int slot;
+		while ((slot = slots[index]) != 0) {
+			int entry = slot - 1;
+			if (hashes[entry] == hash && keyEquals(entry, name)) {
+				Optional<String> value = values[entry];
+				if (value == null) {
+					value = Optional.of(decode(buffer, offsets[entry * STRIDE + VALUE_START],
+							offsets[entry * STRIDE + VALUE_END]));
+					values[entry] = value;
+				}
+				return value;
+			}
+			index = (index + 1) & mask;
+		}
+		return Optional.empty();
+	}
+
+	private boolean keyEquals(int entry, String name) {
+		int start = offsets[entry * STRIDE + KEY_START];
+		int end = offsets[entry * STRIDE + KEY_END];
+		if (escaped[entry]) {
+			return decode(buffer, start, end).equals(name);
+		}
+		if (end - start != name.length()) {
+			return false;
+		}
+		for (int i = 0; i < name.length(); i++) {
+			if ((buffer.get(start + i) & 0xFF) != name.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean sameKey(int entry, int other) {
+		if (hashes[entry] != hashes[other]) {
+			return false;
+		}
+		return decode(buffer, offsets[entry * STRIDE + KEY_START], offsets[entry * STRIDE + KEY_END])
+				.equals(decode(buffer, offsets[other * STRIDE + KEY_START], offsets[other * STRIDE + KEY_END]));
+	}
+
+	private static int spread(int h) {
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * Decodes {@code buffer[start, end)}: escapes, and line continuations with
+	 * the leading whitespace of the continued line.
+	 */
+	private static String decode(MappedByteBuffer buffer, int start, int end) {
+		char[] chars = new char[end - start];
+		int length = 0;
+		int i = start;
+		while (i < end) {
+			char c = (char) (buffer.get(i++) & 0xFF);
+			if (c != '\\') {
+				chars[length++] = c;
+				continue;
+			}
+			if (i == end) {
+				break;
+			}
+			c = (char) (buffer.get(i++) & 0xFF);
+			switch (c) {
+			case '\r':
+			case '\n':
+				if (c == '\r' && i < end && buffer.get(i) == '\n') {
+					i++;
+				}
+				while (i < end && isWhitespace(buffer.get(i))) {
+					i++;
+				}
+				break;
+			case 'u':
+				if (end - i < 4) {
+					throw PropertyInjectorException.malformedEscape();
+				}
+				int value = 0;
+				for (int j = 0; j < 4; j++) {
+					int digit = Character.digit(buffer.get(i++) & 0xFF, 16);
+					if (digit < 0) {
+						throw PropertyInjectorException.malformedEscape();
+					}
+					value = (value << 4) | digit;
+				}
+				chars[length++] = (char) value;
+				break;
+			case 't':
+				chars[length++] = '\t';
+				break;
+			case 'n':
+				chars[length++] = '\n';
+				break;
+			case 'r':
+				chars[length++] = '\r';
+				break;
+			case 'f':
+				chars[length++] = '\f';
+				break;
+			default:
+				chars[length++] = c;
+			}
+		}
+		return new String(chars, 0, length);
+	}
+
+	private static boolean isWhitespace(byte c) {
+		return c == ' ' || c == '\t' || c == '\f';
+	}
+
+	private static boolean isLineEnd(byte c) {
+		return c == '\n' || c == '\r';
+	}
+
+	/**
+	 * Finds the key and value of every logical line, as
+	 * {@link Properties#load(java.io.InputStream)} does, without decoding
+	 * values.
+	 */
+	private static final class Scanner {
+
+		private final MappedByteBuffer buffer;
+		private final int limit;
+		private int[] offsets = new int[64 * STRIDE];
+		private int[] hashes = new int[64];
+		private boolean[] escaped = new boolean[64];
+		private int count;
+
+		private Scanner(MappedByteBuffer buffer) {
+			this.buffer = buffer;
+			this.limit = buffer.limit();
+		}
+
+		private Scanner scan() {
+			int pos = 0;
+			while (pos < limit) {
+				pos = skipWhitespace(pos);
+				if (pos == limit) {
+					break;
+				}
+				byte c = buffer.get(pos);
+				if (isLineEnd(c)) {
+					pos++;
+					continue;
+				}
+				if (c == '#' || c == '!') {
+					pos = skipComment(pos);
+					continue;
+				}
+				int keyStart = pos;
+				int hash = 0;
+				boolean keyEscaped = false;
+				while (pos < limit) {
+					c = buffer.get(pos);
+					if (c == '\\') {
+						keyEscaped = true;
+						pos = skipEscape(pos);
+					} else if (c == '=' || c == ':' || isWhitespace(c) || isLineEnd(c)) {
+						break;
+					} else {
+						hash = 31 * hash + (c & 0xFF);
+						pos++;
+					}
+				}
+				int keyEnd = pos;
+				pos = skipSeparator(pos);
+				int valueStart = pos;
+				while (pos < limit && !isLineEnd(c = buffer.get(pos))) {
+					pos = c == '\\' ? skipEscape(pos) : pos + 1;
+				}
+				if (keyEscaped) {
+					hash = decode(buffer, keyStart, keyEnd).hashCode();
+				}
+				add(keyStart, keyEnd, valueStart, Math.min(pos, limit), hash, keyEscaped);
+			}
+			return this;
+		}
+
+		private void add(int keyStart, int keyEnd, int valueStart, int valueEnd, int hash, boolean keyEscaped) {
+			if (count == hashes.length) {
+				offsets = Arrays.copyOf(offsets, count * 2 * STRIDE);
+				hashes = Arrays.copyOf(hashes, count * 2);
+				escaped = Arrays.copyOf(escaped, count * 2);
+			}
+			int base = count * STRIDE;
+			offsets[base + KEY_START] = keyStart;
+			offsets[base + KEY_END] = keyEnd;
+			offsets[base + VALUE_START] = valueStart;
+			offsets[base + VALUE_END] = valueEnd;
+			hashes[count] = hash;
+			escaped[count] = keyEscaped;
+			count++;
+		}
+
+		private int skipWhitespace(int pos) {
+			while (pos < limit && isWhitespace(buffer.get(pos))) {
+				pos++;
+			}
+			return pos;
+		}
+
+		/**
+		 * Skips a backslash and the character it escapes, or the line break
+		 * and leading whitespace of a continued line.
+		 */
+		private int skipEscape(int pos) {
+			pos++;
+			if (pos == limit) {
+				return pos;
+			}
+			byte c = buffer.get(pos++);
+			if (c == '\r' && pos < limit && buffer.get(pos) == '\n') {
+				pos++;
+			}
+			return isLineEnd(c) ? skipWhitespace(pos) : pos;
+		}
+
+		private int skipSeparator(int pos) {
+			pos = skipContinuedWhitespace(pos);
+			if (pos < limit && (buffer.get(pos) == '=' || buffer.get(pos) == ':')) {
+				pos = skipContinuedWhitespace(pos + 1);
+			}
+			return pos;
+		}
+
+		private int skipContinuedWhitespace(int pos) {
+			while (pos < limit) {
+				byte c = buffer.get(pos);
+				if (isWhitespace(c)) {
+					pos++;
+				} else if (c == '\\' && pos + 1 < limit && isLineEnd(buffer.get(pos + 1))) {
+					pos = skipEscape(pos);
+				} else {
+					break;
+				}
+			}
+			return pos;
+		}
+
+		private int skipComment(int pos) {
+			while (pos < limit && !isLineEnd(buffer.get(pos))) {
+				pos++;
+			}
+			return pos;
+		}
+	}
+}
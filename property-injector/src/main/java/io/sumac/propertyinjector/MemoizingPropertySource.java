@@ -0,0 +1,60 @@
+package io.sumac.propertyinjector;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves each property at most once per getter. Used for the lifetime of a
+ * single batch so that every target in the batch shares one lookup per name,
+ * including targets injected concurrently by a parallel batch.
+ */
+final class MemoizingPropertySource implements PropertySourceDecorator {
+
+	private final PropertySource delegate;
+	private final Map<String, Optional<String>> strings = new ConcurrentHashMap<>();
+	private final Map<String, Optional<Long>> longs = new ConcurrentHashMap<>();
+	private final Map<String, Optional<Integer>> ints = new ConcurrentHashMap<>();
+	private final Map<String, Optional<Double>> doubles = new ConcurrentHashMap<>();
+	private final Map<String, Optional<Float>> floats = new ConcurrentHashMap<>();
+	private final Map<String, Optional<Boolean>> booleans = new ConcurrentHashMap<>();
+
+	MemoizingPropertySource(PropertySource delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public boolean prefersTypedReads() {
+		return true;
+	}
+
+	@Override
+	public Optional<String> getString(String name) {
+		return strings.computeIfAbsent(name, delegate::getString);
+	}
+
+	@Override
+	public Optional<Long> getLong(String name) {
+		return longs.computeIfAbsent(name, delegate::getLong);
+	}
+
+	@Override
+	public Optional<Integer> getInt(String name) {
+		return ints.computeIfAbsent(name, delegate::getInt);
+	}
+
+	@Override
+	public Optional<Double> getDouble(String name) {
+		return doubles.computeIfAbsent(name, delegate::getDouble);
+	}
+
+	@Override
+	public Optional<Float> getFloat(String name) {
+		return floats.computeIfAbsent(name, delegate::getFloat);
+	}
+
+	@Override
+	public Optional<Boolean> getBoolean(String name) {
+		return booleans.computeIfAbsent(name, delegate::getBoolean);
+	}
+}
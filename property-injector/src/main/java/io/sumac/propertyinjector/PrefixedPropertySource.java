@@ -0,0 +1,75 @@
+package io.sumac.propertyinjector;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+/**
+ * Resolves names relative to a prefix. The prefixed names are kept in a map
+ * owned by the binding, so the concatenation happens once per name rather
+ * than on every injection.
+ */
+final class PrefixedPropertySource implements PropertySourceDecorator {
+
+	private final PropertySource delegate;
+	private final boolean typedReads;
+	private final String prefix;
+	private final Map<String, String> names;
+
+	PrefixedPropertySource(PropertySource delegate, String prefix, Map<String, String> names) {
+		this.delegate = delegate;
+		this.typedReads = PropertySourceDecorator.prefersTypedReads(delegate);
+		this.prefix = prefix;
+		this.names = names;
+	}
+
+	private String prefixed(String name) {
+		return names.computeIfAbsent(name, n -> prefix + n);
+	}
+
+	@Override
+	public boolean prefersTypedReads() {
+		return typedReads;
+	}
+
+	@Override
+	public String fullName(String name) {
+		return PropertySourceDecorator.fullName(delegate, prefixed(name));
+	}
+
+	@Override
+	public Optional<?> read(String name, Object type,
+			BiFunction<PropertySource, String, ? extends Optional<?>> reader) {
+		return PropertySourceDecorator.read(delegate, prefixed(name), type, reader);
+	}
+
+	@Override
+	public Optional<String> getString(String name) {
+		return delegate.getString(prefixed(name));
+	}
+
+	@Override
+	public Optional<Long> getLong(String name) {
+		return delegate.getLong(prefixed(name));
+	}
+
+	@Override
+	public Optional<Integer> getInt(String name) {
+		return delegate.getInt(prefixed(name));
+	}
+
+	@Override
+	public Optional<Double> getDouble(String name) {
+		return delegate.getDouble(prefixed(name));
+	}
+
+	@Override
+	public Optional<Float> getFloat(String name) {
+		return delegate.getFloat(prefixed(name));
+	}
+
+	@Override
+	public Optional<Boolean> getBoolean(String name) {
+		return delegate.getBoolean(prefixed(name));
+	}
+}
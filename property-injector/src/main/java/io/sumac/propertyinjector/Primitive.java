@@ -0,0 +1,176 @@
+package io.sumac.propertyinjector;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.Optional;
+
+/**
+ * Primitive slots are read as strings and parsed straight into the primitive
+ * type, so no wrapper object is created between the resolver and the target.
+ * From a source that prefers it they are read with its typed getters instead,
+ * see {@link PropertySourceDecorator}.
+ */
+enum Primitive {
+	LONG(long.class, 0L, Long.class, "parseLong") {
+		@Override
+		Optional<?> read(PropertySource source, String name) {
+			return source.getLong(name);
+		}
+
+		@Override
+		Object box(String value) {
+			return Long.valueOf(value);
+		}
+
+		@Override
+		void set(Field field, Object obj, String value) throws IllegalAccessException {
+			field.setLong(obj, Long.parseLong(value));
+		}
+
+		@Override
+		void invoke(MethodHandle writer, Object obj, String value) throws Throwable {
+			writer.invokeExact(obj, Long.parseLong(value));
+		}
+	},
+	INT(int.class, 0, Integer.class, "parseInt") {
+		@Override
+		Optional<?> read(PropertySource source, String name) {
+			return source.getInt(name);
+		}
+
+		@Override
+		Object box(String value) {
+			return Integer.valueOf(value);
+		}
+
+		@Override
+		void set(Field field, Object obj, String value) throws IllegalAccessException {
+			field.setInt(obj, Integer.parseInt(value));
+		}
+
+		@Override
+		void invoke(MethodHandle writer, Object obj, String value) throws Throwable {
+			writer.invokeExact(obj, Integer.parseInt(value));
+		}
+	},
+	DOUBLE(double.class, 0D, Double.class, "parseDouble") {
+		@Override
+		Optional<?> read(PropertySource source, String name) {
+			return source.getDouble(name);
+		}
+
+		@Override
+		Object box(String value) {
+			return Double.valueOf(value);
+		}
+
+		@Override
+		void set(Field field, Object obj, String value) throws IllegalAccessException {
+			field.setDouble(obj, Double.parseDouble(value));
+		}
+
+		@Override
+		void invoke(MethodHandle writer, Object obj, String value) throws Throwable {
+			writer.invokeExact(obj, Double.parseDouble(value));
+		}
+	},
+	FLOAT(float.class, 0F, Float.class, "parseFloat") {
+		@Override
+		Optional<?> read(PropertySource source, String name) {
+			return source.getFloat(name);
+		}
+
+		@Override
+		Object box(String value) {
+			return Float.valueOf(value);
+		}
+
+		@Override
+		void set(Field field, Object obj, String value) throws IllegalAccessException {
+			field.setFloat(obj, Float.parseFloat(value));
+		}
+
+		@Override
+		void invoke(MethodHandle writer, Object obj, String value) throws Throwable {
+			writer.invokeExact(obj, Float.parseFloat(value));
+		}
+	},
+	BOOLEAN(boolean.class, false, Boolean.class, "parseBoolean") {
+		@Override
+		Optional<?> read(PropertySource source, String name) {
+			return source.getBoolean(name);
+		}
+
+		@Override
+		Object box(String value) {
+			return Boolean.valueOf(value);
+		}
+
+		@Override
+		void set(Field field, Object obj, String value) throws IllegalAccessException {
+			field.setBoolean(obj, Boolean.parseBoolean(value));
+		}
+
+		@Override
+		void invoke(MethodHandle writer, Object obj, String value) throws Throwable {
+			writer.invokeExact(obj, Boolean.parseBoolean(value));
+		}
+	};
+
+	private final Class<?> type;
+	private final Object defaultValue;
+	private final MethodHandle parser;
+
+	Primitive(Class<?> type, Object defaultValue, Class<?> wrapper, String parseMethod) {
+		this.type = type;
+		this.defaultValue = defaultValue;
+		try {
+			this.parser = MethodHandles.publicLookup().findStatic(wrapper, parseMethod,
+					methodType(type, String.class));
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	static Optional<Primitive> of(Class<?> type) {
+		for (Primitive primitive : values()) {
+			if (primitive.type == type) {
+				return Optional.of(primitive);
+			}
+		}
+		return Optional.empty();
+	}
+
+	Class<?> getType() {
+		return type;
+	}
+
+	Object getDefaultValue() {
+		return defaultValue;
+	}
+
+	/**
+	 * @return a {@code (String)} handle returning this primitive type
+	 */
+	MethodHandle getParser() {
+		return parser;
+	}
+
+	/**
+	 * The boxed value of {@code name}, read with the typed getter of
+	 * {@code source}.
+	 */
+	abstract Optional<?> read(PropertySource source, String name);
+
+	abstract Object box(String value);
+
+	abstract void set(Field field, Object obj, String value) throws IllegalAccessException;
+
+	/**
+	 * @param writer a {@code (Object, <primitive>)void} handle
+	 */
+	abstract void invoke(MethodHandle writer, Object obj, String value) throws Throwable;
+}
@@ -0,0 +1,185 @@
+package io.sumac.propertyinjector;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The classes with {@code @Property} or {@code @PropertyPrefix} members that
+ * {@code PropertyInjectorProcessor} found at compile time, read from every
+ * {@value #LOCATION} on the class path.
+ */
+public final class PropertyIndex {
+
+	public static final String LOCATION = "META-INF/property-injector.index";
+
+	private final ClassLoader loader;
+	private final Map<String, List<Binding>> bindings;
+
+	private PropertyIndex(ClassLoader loader, Map<String, List<Binding>> bindings) {
+		this.loader = loader;
+		this.bindings = bindings;
+	}
+
+	/**
+	 * Reads the index files visible to the context class loader.
+	 */
+	public static PropertyIndex load() {
+		ClassLoader loader = Thread.currentThread().getContextClassLoader();
+		return load(loader == null ? PropertyIndex.class.getClassLoader() : loader);
+	}
+
+	public static PropertyIndex load(ClassLoader loader) {
+		Map<String, List<Binding>> bindings = new LinkedHashMap<>();
+		Enumeration<URL> resources;
+		try {
+			resources = loader.getResources(LOCATION);
+		} catch (IOException e) {
+			throw PropertyInjectorException.unreadable(LOCATION, e);
+		}
+		while (resources.hasMoreElements()) {
+			URL resource = resources.nextElement();
+			try (Reader reader = new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8)) {
+				read(new BufferedReader(reader), bindings);
+			} catch (IOException e) {
+				throw PropertyInjectorException.unreadable(resource.toString(), e);
+			}
+		}
+		return new PropertyIndex(loader, Collections.unmodifiableMap(bindings));
+	}
+
+	static void read(BufferedReader reader, Map<String, List<Binding>> bindings) throws IOException {
+		List<Binding> current = null;
+		String line;
+		while ((line = reader.readLine()) != null) {
+			if (line.isEmpty() || line.startsWith("#")) {
+				continue;
+			}
+			if (line.charAt(0) != '\t') {
+				current = new ArrayList<>();
+				bindings.put(line, Collections.unmodifiableList(current));
+				continue;
+			}
+			String[] parts = line.substring(1).split(" ", 4);
+			if (current == null || parts.length < 4) {
+				throw PropertyInjectorException.badIndexLine(line);
+			}
+			Binding.Kind kind;
+			try {
+				kind = Binding.Kind.valueOf(parts[0].toUpperCase(Locale.ROOT));
+			} catch (IllegalArgumentException e) {
+				throw PropertyInjectorException.badIndexLine(line);
+			}
+			current.add(new Binding(kind, parts[1], unescape(parts[3]), "optional".equals(parts[2])));
+		}
+	}
+
+	/**
+	 * The binary names of the indexed classes, in the order they were read.
+	 */
+	public Set<String> getClassNames() {
+		return bindings.keySet();
+	}
+
+	/**
+	 * Loads the indexed classes without initializing them.
+	 */
+	public List<Class<?>> getClasses() {
+		List<Class<?>> classes = new ArrayList<>(bindings.size());
+		for (String name : bindings.keySet()) {
+			try {
+				classes.add(Class.forName(name, false, loader));
+			} catch (ClassNotFoundException e) {
+				throw PropertyInjectorException.wrapCheckedReflectionExceptions(e);
+			}
+		}
+		return classes;
+	}
+
+	/**
+	 * The bindings of {@code className}, or an empty list if it is not
+	 * indexed.
+	 */
+	public List<Binding> getBindings(String className) {
+		return bindings.getOrDefault(className, Collections.emptyList());
+	}
+
+	/**
+	 * Escapes a property name for an index line.
+	 */
+	public static String escape(String value) {
+		return value.replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r");
+	}
+
+	private static String unescape(String value) {
+		if (value.indexOf('\\') < 0) {
+			return value;
+		}
+		StringBuilder unescaped = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '\\' && i + 1 < value.length()) {
+				c = value.charAt(++i);
+				unescaped.append(c == 'n' ? '\n' : c == 'r' ? '\r' : c);
+			} else {
+				unescaped.append(c);
+			}
+		}
+		return unescaped.toString();
+	}
+
+	public static final class Binding {
+
+		public enum Kind {
+			FIELD, SETTER, PARAMETER
+		}
+
+		private final Kind kind;
+		private final String member;
+		private final String property;
+		private final boolean optional;
+
+		Binding(Kind kind, String member, String property, boolean optional) {
+			this.kind = kind;
+			this.member = member;
+			this.property = property;
+			this.optional = optional;
+		}
+
+		public Kind getKind() {
+			return kind;
+		}
+
+		/**
+		 * The field or method name, or the index of a constructor parameter.
+		 */
+		public String getMember() {
+			return member;
+		}
+
+		public String getProperty() {
+			return property;
+		}
+
+		public boolean isOptional() {
+			return optional;
+		}
+
+		@Override
+		public String toString() {
+			return kind.name().toLowerCase(Locale.ROOT) + " " + member + " " + (optional ? "optional" : "required") + " "
+					+ escape(property);
+		}
+	}
+}
@@ -0,0 +1,475 @@
+package io.sumac.propertyinjector;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import io.sumac.propertyresolver.PropertyResolver;
+
+/**
+ * Immutable, and safe to share between threads. Fields, setters and
+ * constructors are made accessible once, on the copies held by the cached
+ * plan of their class, and never toggled while injecting.
+ */
+public class PropertyInjector {
+
+	static final int DEFAULT_INTERNED_STRINGS = 4096;
+
+	private final PropertySource origin;
+	private final PropertySource source;
+	private final AccessStrategy accessStrategy;
+	private final ForkJoinPool pool;
+	private final ConverterRegistry converters;
+	private final InjectionListener listener;
+	private final InstanceCache cache;
+	private final StringTable strings;
+	private final CachingPropertySource values;
+
+	/**
+	 * @param origin the source as given, which {@code strings} and
+	 *               {@code values}, when set, decorate
+	 * @param values a cache already reading from {@code origin} through
+	 *               {@code strings}
+	 */
+	private PropertyInjector(PropertySource origin, AccessStrategy accessStrategy, ForkJoinPool pool,
+			ConverterRegistry converters, InjectionListener listener, InstanceCache cache, StringTable strings,
+			CachingPropertySource values) {
+		this.origin = origin;
+		this.source = values != null ? values : interned(origin, strings);
+		this.accessStrategy = accessStrategy;
+		this.pool = pool;
+		this.converters = converters;
+		this.listener = listener;
+		this.cache = cache;
+		this.strings = strings;
+		this.values = values;
+	}
+
+	public static PropertyInjector fromProperties(Properties properties) {
+		return fromPropertyResolver(PropertyResolver.registerProviders().useProperties(properties).build());
+	}
+
+	public static PropertyInjector fromPropertyResolver(PropertyResolver properties) {
+		return fromPropertySource(PropertySource.of(properties));
+	}
+
+	public static PropertyInjector fromPropertySource(PropertySource source) {
+		return new PropertyInjector(source, AccessStrategy.REFLECTION, null, ConverterRegistry.defaults(),
+				InjectionListener.NONE, null, null, null);
+	}
+
+	/**
+	 * Injects from an immutable {@link PropertySnapshot}, which can be read
+	 * from many threads without contention.
+	 */
+	public static PropertyInjector fromSnapshot(PropertySnapshot snapshot) {
+		return fromPropertySource(snapshot);
+	}
+
+	/**
+	 * Injects from a memory-mapped properties file, see
+	 * {@link MappedPropertySource}.
+	 */
+	public static PropertyInjector fromMappedFile(Path file) {
+		return fromPropertySource(MappedPropertySource.open(file));
+	}
+
+	public final PropertyInjector withAccessStrategy(AccessStrategy accessStrategy) {
+		return new PropertyInjector(origin, accessStrategy, pool, converters, listener, cache, strings, values);
+	}
+
+	/**
+	 * Splits the batch operations ({@link #to(Class, int)},
+	 * {@link #toAll(List)} and {@link #fillInAll(Collection)}) across
+	 * {@code pool}. If several targets fail, the failure of the first one in
+	 * input order is thrown.
+	 */
+	public final PropertyInjector parallel(ForkJoinPool pool) {
+		return new PropertyInjector(origin, accessStrategy, Objects.requireNonNull(pool), converters, listener,
+				cache, strings, values);
+	}
+
+	/**
+	 * Adds {@code converter} to the converters of this injector. Classes are
+	 * introspected again for every set of converters, so create the injector
+	 * once and reuse it.
+	 */
+	public final PropertyInjector withConverter(TypeConverter<?> converter) {
+		return new PropertyInjector(origin, accessStrategy, pool, converters.with(converter), listener,
+				cache == null ? null : new InstanceCache(), strings, values);
+	}
+
+	/**
+	 * Reports timings and failures to {@code listener}, for example an
+	 * {@link InjectionMetrics}, and the hits and misses of the cache set by
+	 * {@link #withValueCache(int)}, which starts empty again.
+	 */
+	public final PropertyInjector withListener(InjectionListener listener) {
+		Objects.requireNonNull(listener);
+		return new PropertyInjector(origin, accessStrategy, pool, converters, listener, cache, strings,
+				values == null ? null : values.emptyCopy(values.getDelegate(), listener));
+	}
+
+	public final <T> PropertyInjector withConverter(Class<T> type, Function<String, ? extends T> converter) {
+		return withConverter(TypeConverter.of(type, converter));
+	}
+
+	/**
+	 * Makes {@link #to(Class)} return one shared instance per class. Through
+	 * {@link #watch}, it is built again from each new snapshot of the files;
+	 * other sources are read once. The instances are shared between threads
+	 * and must not be modified. The batch operations still create new
+	 * instances.
+	 */
+	public final PropertyInjector cached() {
+		return cache != null ? this
+				: new PropertyInjector(origin, accessStrategy, pool, converters, listener, new InstanceCache(),
+						strings, values);
+	}
+
+	/**
+	 * Replaces every string read from the source with an equal one read
+	 * before, while that one is still in use, so that objects injected with
+	 * the same values share one copy. Up to {@code maxStrings} distinct
+	 * values are remembered; the table does not grow and does not keep
+	 * values alive. Comma separated collection elements are split after
+	 * reading and are not shared.
+	 */
+	public final PropertyInjector interning(int maxStrings) {
+		StringTable table = new StringTable(maxStrings);
+		return new PropertyInjector(origin, accessStrategy, pool, converters, listener,
+				cache == null ? null : new InstanceCache(), table,
+				values == null ? null : values.emptyCopy(interned(origin, table), listener));
+	}
+
+	public final PropertyInjector interning() {
+		return interning(DEFAULT_INTERNED_STRINGS);
+	}
+
+	/**
+	 * Keeps up to {@code maximumSize} parsed values read from the source, so
+	 * that repeated injections neither read nor parse them again, primitive
+	 * slots included. See {@link CachingPropertySource}. Through
+	 * {@link #watch}, each new snapshot of the files starts with an empty
+	 * cache; other sources are read once per value until it is evicted.
+	 */
+	public final PropertyInjector withValueCache(int maximumSize) {
+		return new PropertyInjector(origin, accessStrategy, pool, converters, listener, cache, strings,
+				CachingPropertySource.of(interned(origin, strings), maximumSize, listener));
+	}
+
+	/**
+	 * Reads the properties from {@code files} instead of this injector's
+	 * source, later files overriding earlier ones, and keeps objects
+	 * registered with the returned watcher up to date as the files change.
+	 * The access strategy and converters of this injector are kept.
+	 */
+	public final PropertyWatcher watch(Path... files) {
+		return PropertyWatcher.start(this, Arrays.asList(files));
+	}
+
+	public final <T> T to(Class<T> type) {
+		if (cache != null) {
+			return cache.get(type, origin, () -> to(type, source));
+		}
+		return to(type, source);
+	}
+
+	/**
+	 * Creates {@code count} instances of {@code type}, resolving each property
+	 * once for all of them.
+	 */
+	public final <T> List<T> to(Class<T> type, int count) {
+		PropertySource batch = new MemoizingPropertySource(source);
+		Object[] instances = new Object[count];
+		Batch.run(inOrder(count), index -> instances[index] = to(type, batch), pool);
+		List<T> output = new ArrayList<>(count);
+		for (Object instance : instances) {
+			output.add(type.cast(instance));
+		}
+		return output;
+	}
+
+	/**
+	 * Creates one instance of each of {@code types}, in order, resolving each
+	 * property once for the whole batch.
+	 */
+	public final List<Object> toAll(List<Class<?>> types) {
+		PropertySource batch = new MemoizingPropertySource(source);
+		Object[] instances = new Object[types.size()];
+		Batch.run(groupByClass(types), index -> instances[index] = to(types.get(index), batch), pool);
+		return Arrays.asList(instances);
+	}
+
+	public final void fillIn(Object obj) {
+		fillIn(obj, source);
+	}
+
+	/**
+	 * Fills in {@code obj}, but writes a field or calls a setter only when its
+	 * value differs from the one last written into {@code obj} by this method,
+	 * so that setters run only on real changes. The first call writes every
+	 * member. The last written values are kept with the class's plan, so
+	 * injectors with the same converters, such as those of a
+	 * {@link PropertyWatcher}, share them. Members are compared one by one,
+	 * so this uses the injection plan even for classes with a generated
+	 * injector; missing nested objects are created like {@link #fillIn}.
+	 *
+	 * @return the keys of the fields and setters written
+	 */
+	public final Set<String> fillInChanged(Object obj) {
+		Set<String> changed = new LinkedHashSet<>();
+		if (listener == InjectionListener.NONE) {
+			injectChanged(obj, source, changed);
+			return changed;
+		}
+		long start = System.nanoTime();
+		try {
+			injectChanged(obj, new TimedPropertySource(source, listener), changed);
+			listener.injected(obj.getClass(), System.nanoTime() - start);
+		} catch (RuntimeException e) {
+			listener.failed(obj.getClass(), e);
+			throw e;
+		}
+		return changed;
+	}
+
+	/**
+	 * Fills in every object of {@code objects}, resolving each property once
+	 * for the whole batch.
+	 */
+	public final void fillInAll(Collection<?> objects) {
+		PropertySource batch = new MemoizingPropertySource(source);
+		List<Object> targets = new ArrayList<>(objects);
+		List<Class<?>> types = new ArrayList<>(targets.size());
+		for (Object obj : targets) {
+			types.add(obj.getClass());
+		}
+		Batch.run(groupByClass(types), index -> fillIn(targets.get(index), batch), pool);
+	}
+
+	/**
+	 * Does the reflective work for {@code types} up front, so that mistakes
+	 * surface at startup and the first injection is not slower than the
+	 * rest. See {@link #prepareAll(Collection)}.
+	 */
+	public final void prepare(Class<?>... types) {
+		prepareAll(Arrays.asList(types));
+	}
+
+	/**
+	 * Checks that every class of {@code types} can be created by
+	 * {@link #to(Class)}: constructors, setters and field types, including
+	 * those of nested {@code @PropertyPrefix} fields, and that every required
+	 * property is set in the source. Nothing
+	 * is instantiated, and values are not parsed. The injection plans stay
+	 * cached for later injections. The classes are prepared on the pool given
+	 * to {@link #parallel(ForkJoinPool)}, or the common pool. Every failure is
+	 * collected: the first one, in input order, is thrown with the others
+	 * suppressed.
+	 */
+	public final void prepareAll(Collection<Class<?>> types) {
+		List<Class<?>> targets = new ArrayList<>(types);
+		@SuppressWarnings("unchecked")
+		List<PropertyInjectorException>[] failures = new List[targets.size()];
+		Batch.run(inOrder(targets.size()), index -> failures[index] = prepare(targets.get(index)),
+				pool == null ? ForkJoinPool.commonPool() : pool);
+		PropertyInjectorException first = null;
+		for (List<PropertyInjectorException> failure : failures) {
+			for (PropertyInjectorException e : failure) {
+				if (first == null) {
+					first = e;
+				} else {
+					first.addSuppressed(e);
+				}
+			}
+		}
+		if (first != null) {
+			throw first;
+		}
+	}
+
+	/**
+	 * Prepares every class listed in the index written by the annotation
+	 * processor, see {@link PropertyIndex}.
+	 *
+	 * @return the indexed classes, for example to pass to
+	 *         {@link #toAll(List)}
+	 */
+	public final List<Class<?>> prepareIndexed() {
+		List<Class<?>> types = PropertyIndex.load().getClasses();
+		prepareAll(types);
+		return types;
+	}
+
+	final PropertyInjector withSource(PropertySource source) {
+		return new PropertyInjector(source, accessStrategy, pool, converters, listener, cache, strings,
+				values == null ? null : values.emptyCopy(interned(source, strings), listener));
+	}
+
+	/**
+	 * Injects only the members of {@code obj} bound to one of {@code changed}.
+	 */
+	final void reinject(Object obj, Set<String> changed) {
+		try {
+			plan(obj.getClass()).reinject(obj, source, accessStrategy, changed, "");
+		} catch (PropertyInjectorException e) {
+			throw e;
+		} catch (ReflectiveOperationException | IllegalArgumentException e) {
+			throw PropertyInjectorException.wrapCheckedReflectionExceptions(e);
+		}
+	}
+
+	private List<PropertyInjectorException> prepare(Class<?> type) {
+		Set<String> missing = new LinkedHashSet<>();
+		try {
+			GeneratedInjectors.of(type);
+			InjectionPlan plan = plan(type);
+			plan.validate(source, "", missing);
+			if (accessStrategy == AccessStrategy.COMPILED) {
+				plan.getCompiled();
+			}
+		} catch (PropertyInjectorException e) {
+			return Collections.singletonList(e);
+		}
+		List<PropertyInjectorException> failures = new ArrayList<>(missing.size());
+		for (String name : missing) {
+			failures.add(PropertyInjectorException.propertyNotFound(name));
+		}
+		return failures;
+	}
+
+	private <T> T to(Class<T> type, PropertySource source) {
+		if (listener == InjectionListener.NONE) {
+			return construct(type, source);
+		}
+		long start = System.nanoTime();
+		try {
+			T obj = construct(type, new TimedPropertySource(source, listener));
+			listener.injected(type, System.nanoTime() - start);
+			return obj;
+		} catch (RuntimeException e) {
+			listener.failed(type, e);
+			throw e;
+		}
+	}
+
+	private void fillIn(Object obj, PropertySource source) {
+		if (listener == InjectionListener.NONE) {
+			inject(obj, source);
+			return;
+		}
+		long start = System.nanoTime();
+		try {
+			inject(obj, new TimedPropertySource(source, listener));
+			listener.injected(obj.getClass(), System.nanoTime() - start);
+		} catch (RuntimeException e) {
+			listener.failed(obj.getClass(), e);
+			throw e;
+		}
+	}
+
+	private InjectionPlan plan(Class<?> type) {
+		InjectionPlan plan = converters.plan(type);
+		if (listener != InjectionListener.NONE) {
+			report(type, plan);
+		}
+		return plan;
+	}
+
+	/**
+	 * Reports the build of {@code plan} and of the plans of its prefixed
+	 * fields, which bindings look up in the registry themselves. Fields with
+	 * a generated injector have no plan.
+	 */
+	private void report(Class<?> type, InjectionPlan plan) {
+		if (plan.claimBuildReport()) {
+			listener.planBuilt(type, plan.getBuildNanos());
+			for (InjectionPlan.NestedBinding nested : plan.getNested()) {
+				Class<?> nestedType = nested.getField().getType();
+				if (!GeneratedInjectors.of(nestedType).isPresent()) {
+					report(nestedType, converters.plan(nestedType));
+				}
+			}
+		}
+	}
+
+	private <T> T construct(Class<T> type, PropertySource source) {
+		try {
+			Optional<GeneratedInjector<T>> generated = GeneratedInjectors.of(type);
+			if (generated.isPresent()) {
+				return generated.get().create(source);
+			}
+			return type.cast(plan(type).construct(source, accessStrategy));
+		} catch (PropertyInjectorException e) {
+			throw e;
+		} catch (ReflectiveOperationException | IllegalArgumentException | SecurityException e) {
+			throw PropertyInjectorException.wrapCheckedReflectionExceptions(e);
+		}
+	}
+
+	private void inject(Object obj, PropertySource source) {
+		try {
+			Optional<? extends GeneratedInjector<?>> generated = GeneratedInjectors.of(obj.getClass());
+			if (generated.isPresent()) {
+				generated.get().fillInObject(obj, source);
+				return;
+			}
+			plan(obj.getClass()).fillIn(obj, source, accessStrategy);
+		} catch (PropertyInjectorException e) {
+			throw e;
+		} catch (ReflectiveOperationException | IllegalArgumentException e) {
+			throw PropertyInjectorException.wrapCheckedReflectionExceptions(e);
+		}
+	}
+
+	private void injectChanged(Object obj, PropertySource source, Set<String> changed) {
+		try {
+			plan(obj.getClass()).fillInChanged(obj, source, accessStrategy, "", changed);
+		} catch (PropertyInjectorException e) {
+			throw e;
+		} catch (ReflectiveOperationException | IllegalArgumentException e) {
+			throw PropertyInjectorException.wrapCheckedReflectionExceptions(e);
+		}
+	}
+
+	private static PropertySource interned(PropertySource source, StringTable strings) {
+		return strings == null ? source : new InterningPropertySource(source, strings);
+	}
+
+	private static int[] inOrder(int count) {
+		int[] order = new int[count];
+		for (int i = 0; i < count; i++) {
+			order[i] = i;
+		}
+		return order;
+	}
+
+	private static int[] groupByClass(List<Class<?>> types) {
+		Map<Class<?>, List<Integer>> groups = new LinkedHashMap<>();
+		for (int i = 0; i < types.size(); i++) {
+			groups.computeIfAbsent(types.get(i), type -> new ArrayList<>()).add(i);
+		}
+		int[] order = new int[types.size()];
+		int position = 0;
+		for (List<Integer> group : groups.values()) {
+			for (int index : group) {
+				order[position++] = index;
+			}
+		}
+		return order;
+	}
+
+}
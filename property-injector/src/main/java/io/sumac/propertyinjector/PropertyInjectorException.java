@@ -1,8 +1,12 @@
 package io.sumac.propertyinjector;
 
+import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.StringJoiner;
 
 public class PropertyInjectorException extends RuntimeException {
 
@@ -28,6 +32,46 @@ public class PropertyInjectorException extends RuntimeException {
 		return new UnsupportedTypeException("Field type not supported: " + field.getType());
 	}
 
+	static PropertyInjectorException unsupportedPrefixType(Field field) {
+		return new UnsupportedTypeException("Prefixed field type not supported: " + field.getType());
+	}
+
+	static PropertyInjectorException prefixCycle(List<Class<?>> cycle) {
+		StringJoiner path = new StringJoiner(" -> ");
+		for (Class<?> type : cycle) {
+			path.add(type.getName());
+		}
+		return new UnsupportedTypeException("Prefixed field cycle: " + path);
+	}
+
+	static PropertyInjectorException builtInType(Class<?> type) {
+		return new UnsupportedTypeException("Built-in type cannot be converted: " + type);
+	}
+
+	static PropertyInjectorException invalidValue(Class<?> type, String value) {
+		return new PropertyInjectorException("Invalid " + type.getSimpleName() + ": '" + value + "'");
+	}
+
+	static PropertyInjectorException unreadable(Path file, IOException e) {
+		return new PropertyInjectorException("Could not read " + file, e);
+	}
+
+	static PropertyInjectorException unreadable(String location, IOException e) {
+		return new PropertyInjectorException("Could not read " + location, e);
+	}
+
+	static PropertyInjectorException tooLargeToMap(Path file, long size) {
+		return new PropertyInjectorException("File too large to map: " + file + ": " + size + " bytes");
+	}
+
+	static PropertyInjectorException malformedEscape() {
+		return new PropertyInjectorException("Malformed \\uxxxx encoding");
+	}
+
+	static PropertyInjectorException badIndexLine(String line) {
+		return new PropertyInjectorException("Malformed index line: " + line.trim());
+	}
+
 	static PropertyInjectorException tooManyConstructors(int count) {
 		return new BadConstructorException("Too many constructors: " + count);
 	}
@@ -0,0 +1,108 @@
+package io.sumac.propertyinjector;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * An immutable copy of a set of properties. Keys and values are kept in an
+ * open addressing table with linear probing, at most half full, so reads
+ * neither lock (unlike {@link Properties}, which is a synchronized
+ * {@code Hashtable}) nor allocate: the {@code Optional} of every value is
+ * created up front.
+ */
+public final class PropertySnapshot implements PropertySource {
+
+	private final String[] keys;
+	private final Optional<String>[] values;
+	private final int mask;
+	private final int size;
+
+	@SuppressWarnings("unchecked")
+	private PropertySnapshot(Map<String, String> properties) {
+		int capacity = Integer.highestOneBit(Math.max(1, properties.size()) * 2 - 1) << 1;
+		this.keys = new String[capacity];
+		this.values = new Optional[capacity];
+		this.mask = capacity - 1;
+		this.size = properties.size();
+		for (Map.Entry<String, String> entry : properties.entrySet()) {
+			int index = hash(entry.getKey()) & mask;
+			while (keys[index] != null) {
+				index = (index + 1) & mask;
+			}
+			keys[index] = entry.getKey();
+			values[index] = Optional.of(entry.getValue());
+		}
+	}
+
+	public static PropertySnapshot of(Map<String, String> properties) {
+		return new PropertySnapshot(properties);
+	}
+
+	/**
+	 * Copies {@code properties}, including its defaults.
+	 */
+	public static PropertySnapshot of(Properties properties) {
+		Map<String, String> values = new HashMap<>();
+		for (String name : properties.stringPropertyNames()) {
+			values.put(name, properties.getProperty(name));
+		}
+		return new PropertySnapshot(values);
+	}
+
+	/**
+	 * Reads {@code files} in order, later files overriding earlier ones.
+	 */
+	public static PropertySnapshot load(Path... files) {
+		Properties properties = new Properties();
+		for (Path file : files) {
+			try (InputStream in = Files.newInputStream(file)) {
+				properties.load(in);
+			} catch (IOException e) {
+				throw PropertyInjectorException.unreadable(file, e);
+			}
+		}
+		return of(properties);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Optional<String> getString(String name) {
+		int index = hash(name) & mask;
+		String key;
+		while ((key = keys[index]) != null) {
+			if (key.equals(name)) {
+				return values[index];
+			}
+			index = (index + 1) & mask;
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * The keys and values as a map, in no particular order.
+	 */
+	public Map<String, String> toMap() {
+		Map<String, String> map = new HashMap<>();
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != null) {
+				map.put(keys[i], values[i].get());
+			}
+		}
+		return Collections.unmodifiableMap(map);
+	}
+
+	private static int hash(String key) {
+		int h = key.hashCode();
+		return h ^ (h >>> 16);
+	}
+}
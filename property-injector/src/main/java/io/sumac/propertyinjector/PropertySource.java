@@ -0,0 +1,70 @@
+package io.sumac.propertyinjector;
+
+import java.util.Optional;
+
+import io.sumac.propertyresolver.PropertyResolver;
+
+/**
+ * Where {@link PropertyInjector} reads property values from. Only
+ * {@link #getString(String)} has to be implemented; the typed getters parse
+ * its result.
+ */
+public interface PropertySource {
+
+	Optional<String> getString(String name);
+
+	default Optional<Long> getLong(String name) {
+		return getString(name).map(Long::valueOf);
+	}
+
+	default Optional<Integer> getInt(String name) {
+		return getString(name).map(Integer::valueOf);
+	}
+
+	default Optional<Double> getDouble(String name) {
+		return getString(name).map(Double::valueOf);
+	}
+
+	default Optional<Float> getFloat(String name) {
+		return getString(name).map(Float::valueOf);
+	}
+
+	default Optional<Boolean> getBoolean(String name) {
+		return getString(name).map(Boolean::valueOf);
+	}
+
+	static PropertySource of(PropertyResolver resolver) {
+		return new PropertySource() {
+
+			@Override
+			public Optional<String> getString(String name) {
+				return resolver.getString(name);
+			}
+
+			@Override
+			public Optional<Long> getLong(String name) {
+				return resolver.getLong(name);
+			}
+
+			@Override
+			public Optional<Integer> getInt(String name) {
+				return resolver.getInt(name);
+			}
+
+			@Override
+			public Optional<Double> getDouble(String name) {
+				return resolver.getDouble(name);
+			}
+
+			@Override
+			public Optional<Float> getFloat(String name) {
+				return resolver.getFloat(name);
+			}
+
+			@Override
+			public Optional<Boolean> getBoolean(String name) {
+				return resolver.getBoolean(name);
+			}
+		};
+	}
+}
@@ -0,0 +1,47 @@
+package io.sumac.propertyinjector;
+
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+/**
+ * A source of this package that wraps another, and decides how slots read
+ * through it.
+ */
+interface PropertySourceDecorator extends PropertySource {
+
+	boolean prefersTypedReads();
+
+	/**
+	 * The value of {@code name}, as {@code reader} reads and parses it from
+	 * the source it is given. {@code type} stands for what the reader parses
+	 * to, so that a source can keep the result, or is {@code null} when the
+	 * reader only calls one getter of the source.
+	 */
+	default Optional<?> read(String name, Object type,
+			BiFunction<PropertySource, String, ? extends Optional<?>> reader) {
+		return reader.apply(this, name);
+	}
+
+	/**
+	 * The key that {@code name} stands for in the source this one wraps, for
+	 * messages.
+	 */
+	default String fullName(String name) {
+		return name;
+	}
+
+	static String fullName(PropertySource source, String name) {
+		return source instanceof PropertySourceDecorator ? ((PropertySourceDecorator) source).fullName(name) : name;
+	}
+
+	static Optional<?> read(PropertySource source, String name, Object type,
+			BiFunction<PropertySource, String, ? extends Optional<?>> reader) {
+		return source instanceof PropertySourceDecorator
+				? ((PropertySourceDecorator) source).read(name, type, reader)
+				: reader.apply(source, name);
+	}
+
+	static boolean prefersTypedReads(PropertySource source) {
+		return source instanceof PropertySourceDecorator && ((PropertySourceDecorator) source).prefersTypedReads();
+	}
+}
@@ -0,0 +1,223 @@
+package io.sumac.propertyinjector;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Keeps registered objects in step with a set of properties files, injecting
+ * only the keys that changed.
+ */
+public final class PropertyWatcher implements Closeable {
+
+	static final long QUIET_PERIOD_MILLIS = 100;
+
+	private final PropertyInjector template;
+	private final List<Path> files;
+	private final List<Object> instances = new CopyOnWriteArrayList<>();
+	private final Map<Object, Set<String>> pending = Collections.synchronizedMap(new IdentityHashMap<>());
+	private final WatchService watchService;
+	private volatile PropertySnapshot snapshot;
+	private volatile PropertyInjector injector;
+	private volatile Consumer<? super RuntimeException> errorHandler = e -> Thread.currentThread()
+			.getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+
+	private PropertyWatcher(PropertyInjector template, List<Path> files, PropertySnapshot snapshot,
+			WatchService watchService) {
+		this.template = template;
+		this.files = files;
+		this.watchService = watchService;
+		this.snapshot = snapshot;
+		this.injector = template.withSource(snapshot);
+	}
+
+	static PropertyWatcher start(PropertyInjector template, List<Path> files) {
+		if (files.isEmpty()) {
+			throw new IllegalArgumentException("No files to watch");
+		}
+		List<Path> paths = new ArrayList<>(files.size());
+		for (Path file : files) {
+			paths.add(file.toAbsolutePath().normalize());
+		}
+		PropertySnapshot snapshot = load(paths);
+		Path first = paths.get(0);
+		PropertyWatcher watcher;
+		try {
+			watcher = new PropertyWatcher(template, paths, snapshot, first.getFileSystem().newWatchService());
+		} catch (IOException e) {
+			throw PropertyInjectorException.unreadable(first, e);
+		}
+		Set<Path> directories = new HashSet<>();
+		for (Path file : paths) {
+			try {
+				if (directories.add(file.getParent())) {
+					file.getParent().register(watcher.watchService, ENTRY_CREATE, ENTRY_MODIFY);
+				}
+			} catch (IOException e) {
+				watcher.close();
+				throw PropertyInjectorException.unreadable(file, e);
+			}
+		}
+		Thread thread = new Thread(watcher::watch, "property-watcher");
+		thread.setDaemon(true);
+		thread.start();
+		return watcher;
+	}
+
+	/**
+	 * An injector reading the latest snapshot of the files.
+	 */
+	public PropertyInjector getInjector() {
+		return injector;
+	}
+
+	/**
+	 * Fills in {@code obj} and keeps it up to date until it is unregistered.
+	 */
+	public synchronized <T> T register(T obj) {
+		injector.fillIn(obj);
+		instances.add(obj);
+		return obj;
+	}
+
+	public void unregister(Object obj) {
+		instances.removeIf(instance -> instance == obj);
+		pending.remove(obj);
+	}
+
+	/**
+	 * Handles failures of reloads triggered by file changes, for example a
+	 * required property that was removed. By default they go to the uncaught
+	 * exception handler of the watcher thread, which keeps running.
+	 */
+	public PropertyWatcher onError(Consumer<? super RuntimeException> errorHandler) {
+		this.errorHandler = Objects.requireNonNull(errorHandler);
+		return this;
+	}
+
+	/**
+	 * Reads the files now and injects the keys that changed since the last
+	 * snapshot into the registered objects. Objects that failed on an earlier
+	 * reload are injected again with the keys they missed.
+	 *
+	 * @return the changed keys
+	 */
+	public synchronized Set<String> reload() {
+		PropertySnapshot next = load(files);
+		Set<String> changed = diff(snapshot.toMap(), next.toMap());
+		if (changed.isEmpty() && pending.isEmpty()) {
+			return changed;
+		}
+		if (!changed.isEmpty()) {
+			snapshot = next;
+			injector = template.withSource(next);
+		}
+		PropertyInjectorException failure = null;
+		for (Object obj : instances) {
+			Set<String> keys = changed;
+			Set<String> missed = pending.get(obj);
+			if (missed != null) {
+				keys = new LinkedHashSet<>(missed);
+				keys.addAll(changed);
+			}
+			try {
+				injector.reinject(obj, keys);
+				pending.remove(obj);
+			} catch (PropertyInjectorException e) {
+				pending.put(obj, keys);
+				if (failure == null) {
+					failure = e;
+				} else {
+					failure.addSuppressed(e);
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+		return changed;
+	}
+
+	@Override
+	public void close() {
+		try {
+			watchService.close();
+		} catch (IOException e) {
+			throw PropertyInjectorException.unreadable(files.get(0), e);
+		}
+	}
+
+	private void watch() {
+		try {
+			while (true) {
+				boolean relevant = drain(watchService.take());
+				WatchKey key;
+				while ((key = watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+					relevant |= drain(key);
+				}
+				if (relevant) {
+					try {
+						reload();
+					} catch (RuntimeException e) {
+						errorHandler.accept(e);
+					}
+				}
+			}
+		} catch (ClosedWatchServiceException e) {
+			return;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private boolean drain(WatchKey key) {
+		Path directory = (Path) key.watchable();
+		boolean relevant = false;
+		for (WatchEvent<?> event : key.pollEvents()) {
+			if (event.kind() == OVERFLOW || files.contains(directory.resolve((Path) event.context()))) {
+				relevant = true;
+			}
+		}
+		key.reset();
+		return relevant;
+	}
+
+	static Set<String> diff(Map<String, String> before, Map<String, String> after) {
+		Set<String> changed = new LinkedHashSet<>();
+		for (Map.Entry<String, String> entry : after.entrySet()) {
+			if (!entry.getValue().equals(before.get(entry.getKey()))) {
+				changed.add(entry.getKey());
+			}
+		}
+		for (String key : before.keySet()) {
+			if (!after.containsKey(key)) {
+				changed.add(key);
+			}
+		}
+		return Collections.unmodifiableSet(changed);
+	}
+
+	private static PropertySnapshot load(List<Path> files) {
+		return PropertySnapshot.load(files.toArray(new Path[0]));
+	}
+}
@@ -0,0 +1,70 @@
+package io.sumac.propertyinjector;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The values last injected into each object by a dirty-checking fill in, one
+ * per member of its plan. Objects are held weakly and compared by identity,
+ * so that models with value equality each keep their own state.
+ */
+final class ShadowState {
+
+	static final Object UNSET = new Object();
+
+	private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+	private final Map<Key, Object[]> values = new ConcurrentHashMap<>();
+
+	/**
+	 * The values last injected into {@code obj}, {@link #UNSET} until a value
+	 * is injected. Callers lock the returned array while they update it.
+	 */
+	Object[] get(Object obj, int size) {
+		expunge();
+		Object[] current = values.get(new Key(obj, null));
+		if (current != null) {
+			return current;
+		}
+		Object[] created = new Object[size];
+		Arrays.fill(created, UNSET);
+		current = values.putIfAbsent(new Key(obj, queue), created);
+		return current == null ? created : current;
+	}
+
+	private void expunge() {
+		Object key;
+		while ((key = queue.poll()) != null) {
+			values.remove(key);
+		}
+	}
+
+	private static final class Key extends WeakReference<Object> {
+
+		private final int hash;
+
+		private Key(Object referent, ReferenceQueue<Object> queue) {
+			super(referent, queue);
+			this.hash = System.identityHashCode(referent);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Object referent = get();
+			return referent != null && referent == ((Key) obj).get();
+		}
+	}
+}
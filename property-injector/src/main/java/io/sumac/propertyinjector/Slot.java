@@ -0,0 +1,155 @@
+package io.sumac.propertyinjector;
+
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+final class Slot {
+
+	private final String name;
+	private final boolean optional;
+	private final ValueType valueType;
+	private final Primitive primitive;
+	private final TypeConverter<?> converter;
+	private final Object type;
+	private final BiFunction<PropertySource, String, ? extends Optional<?>> reader;
+	private final boolean lazy;
+
+	Slot(Property property, ValueType valueType, Class<?> type) {
+		this.name = property.name();
+		this.optional = property.optional();
+		this.valueType = valueType;
+		this.primitive = Primitive.of(type).orElse(null);
+		this.converter = null;
+		this.type = primitive == null && valueType.isMultiValued() ? valueType : null;
+		this.reader = primitive != null ? primitive::read : valueType::read;
+		this.lazy = false;
+	}
+
+	Slot(Property property, TypeConverter<?> converter) {
+		this.name = property.name();
+		this.optional = property.optional();
+		this.valueType = null;
+		this.primitive = null;
+		this.converter = converter;
+		this.type = converter;
+		this.reader = (source, name) -> source.getString(name).map(converter::convert);
+		this.lazy = false;
+	}
+
+	private Slot(Slot slot) {
+		this.name = slot.name;
+		this.optional = slot.optional;
+		this.valueType = slot.valueType;
+		this.primitive = null;
+		this.converter = slot.converter;
+		this.type = slot.type;
+		this.reader = slot.primitive == null ? slot.reader : slot.valueType::read;
+		this.lazy = true;
+	}
+
+	/**
+	 * This slot, resolved to a {@link Lazy} of its value.
+	 */
+	Slot lazy() {
+		return new Slot(this);
+	}
+
+	String getName() {
+		return name;
+	}
+
+	boolean isOptional() {
+		return optional;
+	}
+
+	/**
+	 * The built-in type of the slot, or {@code null} when it has a
+	 * {@link #getConverter() converter}.
+	 */
+	ValueType getValueType() {
+		return valueType;
+	}
+
+	TypeConverter<?> getConverter() {
+		return converter;
+	}
+
+	boolean isPrimitive() {
+		return primitive != null;
+	}
+
+	Primitive getPrimitive() {
+		return primitive;
+	}
+
+	boolean isLazy() {
+		return lazy;
+	}
+
+	Object resolve(PropertySource source) {
+		return lazy ? Lazy.of(() -> resolveValue(source)) : resolveValue(source);
+	}
+
+	/**
+	 * The value of this slot, resolved now even when it is lazy, or
+	 * {@code null} when it is primitive, optional and missing.
+	 */
+	Object resolveNow(PropertySource source) {
+		if (primitive != null) {
+			if (PropertySourceDecorator.prefersTypedReads(source)) {
+				return resolveTyped(source);
+			}
+			String value = resolveString(source);
+			return value == null ? null : primitive.box(value);
+		}
+		return resolveValue(source);
+	}
+
+	private Object resolveValue(PropertySource source) {
+		if (primitive != null) {
+			Object value = resolveNow(source);
+			return value == null ? primitive.getDefaultValue() : value;
+		}
+		return orElseThrow(PropertySourceDecorator.read(source, name, type, reader), source);
+	}
+
+	/**
+	 * The raw value of a primitive or converted slot, or {@code null} when it
+	 * is optional and missing.
+	 */
+	String resolveString(PropertySource source) {
+		return orElseThrow(source.getString(name), source);
+	}
+
+	/**
+	 * The boxed value of a primitive slot, read with the typed getter of
+	 * {@code source}, or {@code null} when it is optional and missing.
+	 */
+	Object resolveTyped(PropertySource source) {
+		return orElseThrow(PropertySourceDecorator.read(source, name, type, reader), source);
+	}
+
+	/**
+	 * Whether this slot is required but {@code prefix + name} is not set in
+	 * {@code source}.
+	 */
+	boolean isMissing(PropertySource source, String prefix) {
+		if (optional) {
+			return false;
+		}
+		String key = prefix + name;
+		return valueType == null ? !source.getString(key).isPresent() : !valueType.isPresent(source, key);
+	}
+
+	private <T> T orElseThrow(Optional<T> value, PropertySource source) {
+		if (value.isPresent()) {
+			return value.get();
+		} else if (optional) {
+			return null;
+		} else {
+			throw PropertyInjectorException.propertyNotFound(PropertySourceDecorator.fullName(source, name));
+		}
+	}
+}
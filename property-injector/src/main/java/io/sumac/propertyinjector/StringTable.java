@@ -0,0 +1,44 @@
+package io.sumac.propertyinjector;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free intern table holding weak references to canonical
+ * strings.
+ */
+final class StringTable {
+
+	private final AtomicReferenceArray<WeakReference<String>> slots;
+	private final int mask;
+
+	StringTable(int capacity) {
+		if (capacity < 2) {
+			throw new IllegalArgumentException("Capacity must be at least 2: " + capacity);
+		}
+		int size = Integer.highestOneBit(capacity - 1) << 1;
+		this.slots = new AtomicReferenceArray<>(size);
+		this.mask = size - 1;
+	}
+
+	String intern(String value) {
+		int hash = value.hashCode();
+		int first = (hash ^ (hash >>> 16)) & mask;
+		int second = (first + 1) & mask;
+		String canonical = get(first);
+		if (value.equals(canonical)) {
+			return canonical;
+		}
+		String other = get(second);
+		if (value.equals(other)) {
+			return other;
+		}
+		slots.lazySet(canonical != null && other == null ? second : first, new WeakReference<>(value));
+		return value;
+	}
+
+	private String get(int index) {
+		WeakReference<String> reference = slots.get(index);
+		return reference == null ? null : reference.get();
+	}
+}
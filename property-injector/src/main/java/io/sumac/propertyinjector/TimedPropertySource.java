@@ -0,0 +1,82 @@
+package io.sumac.propertyinjector;
+
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+/**
+ * Reports the time of every read to an {@link InjectionListener}. Slots
+ * resolve through {@link #read}, and primitive slots through the typed
+ * getters, so that the time of parsing a value is part of its read.
+ */
+final class TimedPropertySource implements PropertySourceDecorator {
+
+	private final PropertySource delegate;
+	private final InjectionListener listener;
+
+	TimedPropertySource(PropertySource delegate, InjectionListener listener) {
+		this.delegate = delegate;
+		this.listener = listener;
+	}
+
+	@Override
+	public boolean prefersTypedReads() {
+		return true;
+	}
+
+	@Override
+	public Optional<?> read(String name, Object type,
+			BiFunction<PropertySource, String, ? extends Optional<?>> reader) {
+		long start = System.nanoTime();
+		Optional<?> value = PropertySourceDecorator.read(delegate, name, type, reader);
+		listener.propertyResolved(name, System.nanoTime() - start);
+		return value;
+	}
+
+	@Override
+	public Optional<String> getString(String name) {
+		long start = System.nanoTime();
+		Optional<String> value = delegate.getString(name);
+		listener.propertyResolved(name, System.nanoTime() - start);
+		return value;
+	}
+
+	@Override
+	public Optional<Long> getLong(String name) {
+		long start = System.nanoTime();
+		Optional<Long> value = delegate.getLong(name);
+		listener.propertyResolved(name, System.nanoTime() - start);
+		return value;
+	}
+
+	@Override
+	public Optional<Integer> getInt(String name) {
+		long start = System.nanoTime();
+		Optional<Integer> value = delegate.getInt(name);
+		listener.propertyResolved(name, System.nanoTime() - start);
+		return value;
+	}
+
+	@Override
+	public Optional<Double> getDouble(String name) {
+		long start = System.nanoTime();
+		Optional<Double> value = delegate.getDouble(name);
+		listener.propertyResolved(name, System.nanoTime() - start);
+		return value;
+	}
+
+	@Override
+	public Optional<Float> getFloat(String name) {
+		long start = System.nanoTime();
+		Optional<Float> value = delegate.getFloat(name);
+		listener.propertyResolved(name, System.nanoTime() - start);
+		return value;
+	}
+
+	@Override
+	public Optional<Boolean> getBoolean(String name) {
+		long start = System.nanoTime();
+		Optional<Boolean> value = delegate.getBoolean(name);
+		listener.propertyResolved(name, System.nanoTime() - start);
+		return value;
+	}
+}
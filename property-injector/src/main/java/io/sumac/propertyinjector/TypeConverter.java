@@ -0,0 +1,32 @@
+package io.sumac.propertyinjector;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Converts property values to a type that {@link PropertyInjector} does not
+ * support on its own, looked up by the exact declared type of a slot.
+ */
+public interface TypeConverter<T> {
+
+	Class<T> getType();
+
+	T convert(String value);
+
+	static <T> TypeConverter<T> of(Class<T> type, Function<String, ? extends T> converter) {
+		Objects.requireNonNull(type);
+		Objects.requireNonNull(converter);
+		return new TypeConverter<T>() {
+
+			@Override
+			public Class<T> getType() {
+				return type;
+			}
+
+			@Override
+			public T convert(String value) {
+				return converter.apply(value);
+			}
+		};
+	}
+}
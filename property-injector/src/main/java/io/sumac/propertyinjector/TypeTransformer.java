@@ -1,5 +1,10 @@
 package io.sumac.propertyinjector;
 
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Set;
+
 public class TypeTransformer {
 	public static boolean isString(Class<?> type) {
 		return String.class.equals(type);
@@ -48,4 +53,32 @@ public class TypeTransformer {
 	public static boolean isBoolean(Object obj) {
 		return isBoolean(obj.getClass());
 	}
+
+	public static boolean isIntArray(Type type) {
+		return int[].class.equals(type);
+	}
+
+	public static boolean isLongArray(Type type) {
+		return long[].class.equals(type);
+	}
+
+	public static boolean isStringList(Type type) {
+		return isParameterized(type, List.class, String.class);
+	}
+
+	public static boolean isIntList(Type type) {
+		return isParameterized(type, List.class, Integer.class);
+	}
+
+	public static boolean isStringSet(Type type) {
+		return isParameterized(type, Set.class, String.class);
+	}
+
+	private static boolean isParameterized(Type type, Class<?> raw, Class<?> argument) {
+		if (!(type instanceof ParameterizedType)) {
+			return false;
+		}
+		ParameterizedType parameterized = (ParameterizedType) type;
+		return raw.equals(parameterized.getRawType()) && argument.equals(parameterized.getActualTypeArguments()[0]);
+	}
 }
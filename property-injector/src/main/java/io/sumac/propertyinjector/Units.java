@@ -0,0 +1,149 @@
+package io.sumac.propertyinjector;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Single pass parsers for durations and data sizes. Each value is scanned
+ * once, digits are accumulated with overflow checks, and units are matched
+ * in place without substrings or regular expressions.
+ */
+final class Units {
+
+	private static final String[] TIME_UNITS = { "ns", "us", "\u00b5s", "ms", "s", "m", "h", "d" };
+	private static final long[] NANOS = { 1L, 1_000L, 1_000L, 1_000_000L, 1_000_000_000L, 60_000_000_000L,
+			3_600_000_000_000L, 86_400_000_000_000L };
+	private static final String[] SIZE_UNITS = { "b", "kb", "mb", "gb", "tb", "pb", "kib", "mib", "gib", "tib",
+			"pib" };
+	private static final long[] BYTES = { 1L, 1_000L, 1_000_000L, 1_000_000_000L, 1_000_000_000_000L,
+			1_000_000_000_000_000L, 1L << 10, 1L << 20, 1L << 30, 1L << 40, 1L << 50 };
+
+	private Units() {
+	}
+
+	/**
+	 * A duration like {@code 250ms}, {@code 1h 30m} or {@code -5s}, a plain
+	 * number of milliseconds, or an ISO-8601 duration like {@code PT30S}.
+	 * Units are {@code ns}, {@code us} (or {@code µs}), {@code ms}, {@code s},
+	 * {@code m}, {@code h} and {@code d}.
+	 */
+	static Duration parseDuration(String value) {
+		int end = trimEnd(value);
+		int i = trimStart(value, end);
+		boolean negative = i < end && value.charAt(i) == '-';
+		int start = negative || (i < end && value.charAt(i) == '+') ? i + 1 : i;
+		if (start < end && (value.charAt(start) == 'P' || value.charAt(start) == 'p')) {
+			try {
+				return Duration.parse(value.substring(i, end));
+			} catch (DateTimeParseException e) {
+				throw PropertyInjectorException.invalidValue(Duration.class, value);
+			}
+		}
+		i = start;
+		long nanos = 0;
+		do {
+			int digits = i;
+			long amount = 0;
+			while (i < end && isDigit(value.charAt(i))) {
+				amount = accumulate(amount, value.charAt(i++), Duration.class, value);
+			}
+			if (i == digits) {
+				throw PropertyInjectorException.invalidValue(Duration.class, value);
+			}
+			i = skipSpaces(value, i, end);
+			int unitStart = i;
+			while (i < end && !isDigit(value.charAt(i)) && value.charAt(i) != ' ') {
+				i++;
+			}
+			if (unitStart == i) {
+				if (digits != start || i != end) {
+					throw PropertyInjectorException.invalidValue(Duration.class, value);
+				}
+				return Duration.ofMillis(negative ? -amount : amount);
+			}
+			int unit = unit(value, unitStart, i, TIME_UNITS, Duration.class);
+			nanos = add(nanos, multiply(amount, NANOS[unit], Duration.class, value), Duration.class, value);
+			i = skipSpaces(value, i, end);
+		} while (i < end);
+		return Duration.ofNanos(negative ? -nanos : nanos);
+	}
+
+	/**
+	 * A number of bytes like {@code 512}, {@code 64KB} or {@code 64MiB}, see
+	 * {@link DataSize}.
+	 */
+	static long parseBytes(String value) {
+		int end = trimEnd(value);
+		int i = trimStart(value, end);
+		int digits = i;
+		long amount = 0;
+		while (i < end && isDigit(value.charAt(i))) {
+			amount = accumulate(amount, value.charAt(i++), DataSize.class, value);
+		}
+		if (i == digits) {
+			throw PropertyInjectorException.invalidValue(DataSize.class, value);
+		}
+		i = skipSpaces(value, i, end);
+		if (i == end) {
+			return amount;
+		}
+		return multiply(amount, BYTES[unit(value, i, end, SIZE_UNITS, DataSize.class)], DataSize.class, value);
+	}
+
+	private static int unit(String value, int start, int end, String[] units, Class<?> type) {
+		int length = end - start;
+		for (int unit = 0; unit < units.length; unit++) {
+			if (units[unit].length() == length && value.regionMatches(true, start, units[unit], 0, length)) {
+				return unit;
+			}
+		}
+		throw PropertyInjectorException.invalidValue(type, value);
+	}
+
+	private static long accumulate(long amount, char digit, Class<?> type, String value) {
+		return add(multiply(amount, 10, type, value), digit - '0', type, value);
+	}
+
+	private static long multiply(long amount, long factor, Class<?> type, String value) {
+		try {
+			return Math.multiplyExact(amount, factor);
+		} catch (ArithmeticException e) {
+			throw PropertyInjectorException.invalidValue(type, value);
+		}
+	}
+
+	private static long add(long amount, long addend, Class<?> type, String value) {
+		try {
+			return Math.addExact(amount, addend);
+		} catch (ArithmeticException e) {
+			throw PropertyInjectorException.invalidValue(type, value);
+		}
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static int skipSpaces(String value, int i, int end) {
+		while (i < end && value.charAt(i) == ' ') {
+			i++;
+		}
+		return i;
+	}
+
+	private static int trimStart(String value, int end) {
+		int i = 0;
+		while (i < end && Character.isWhitespace(value.charAt(i))) {
+			i++;
+		}
+		return i;
+	}
+
+	private static int trimEnd(String value) {
+		int end = value.length();
+		while (end > 0 && Character.isWhitespace(value.charAt(end - 1))) {
+			end--;
+		}
+		return end;
+	}
+}
@@ -0,0 +1,156 @@
+package io.sumac.propertyinjector;
+
+import static io.sumac.propertyinjector.TypeTransformer.isBoolean;
+import static io.sumac.propertyinjector.TypeTransformer.isDouble;
+import static io.sumac.propertyinjector.TypeTransformer.isFloat;
+import static io.sumac.propertyinjector.TypeTransformer.isInt;
+import static io.sumac.propertyinjector.TypeTransformer.isIntArray;
+import static io.sumac.propertyinjector.TypeTransformer.isIntList;
+import static io.sumac.propertyinjector.TypeTransformer.isLong;
+import static io.sumac.propertyinjector.TypeTransformer.isLongArray;
+import static io.sumac.propertyinjector.TypeTransformer.isString;
+import static io.sumac.propertyinjector.TypeTransformer.isStringList;
+import static io.sumac.propertyinjector.TypeTransformer.isStringSet;
+
+import java.lang.reflect.Type;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+
+enum ValueType {
+	STRING {
+		@Override
+		Optional<?> read(PropertySource source, String name) {
+			return source.getString(name);
+		}
+	},
+	LONG {
+		@Override
+		Optional<?> read(PropertySource source, String name) {
+			return source.getLong(name);
+		}
+	},
+	INT {
+		@Override
+		Optional<?> read(PropertySource source, String name) {
+			return source.getInt(name);
+		}
+	},
+	DOUBLE {
+		@Override
+		Optional<?> read(PropertySource source, String name) {
+			return source.getDouble(name);
+		}
+	},
+	FLOAT {
+		@Override
+		Optional<?> read(PropertySource source, String name) {
+			return source.getFloat(name);
+		}
+	},
+	BOOLEAN {
+		@Override
+		Optional<?> read(PropertySource source, String name) {
+			return source.getBoolean(name);
+		}
+	},
+	STRING_LIST(true) {
+		@Override
+		Optional<?> read(PropertySource source, String name) {
+			return Delimited.read(source, name, Delimited::strings, values -> values);
+		}
+	},
+	STRING_SET(true) {
+		@Override
+		Optional<?> read(PropertySource source, String name) {
+			return Delimited.read(source, name, value -> new LinkedHashSet<>(Delimited.strings(value)),
+					LinkedHashSet::new);
+		}
+	},
+	INT_LIST(true) {
+		@Override
+		Optional<?> read(PropertySource source, String name) {
+			return Delimited.read(source, name, Delimited::integers, Delimited::integers);
+		}
+	},
+	INT_ARRAY(true) {
+		@Override
+		Optional<?> read(PropertySource source, String name) {
+			return Delimited.read(source, name, Delimited::ints, Delimited::ints);
+		}
+	},
+	LONG_ARRAY(true) {
+		@Override
+		Optional<?> read(PropertySource source, String name) {
+			return Delimited.read(source, name, Delimited::longs, Delimited::longs);
+		}
+	};
+
+	private final boolean multiValued;
+
+	ValueType() {
+		this(false);
+	}
+
+	ValueType(boolean multiValued) {
+		this.multiValued = multiValued;
+	}
+
+	abstract Optional<?> read(PropertySource source, String name);
+
+	/**
+	 * Whether this is a collection, rather than the value of a single getter
+	 * of the source.
+	 */
+	boolean isMultiValued() {
+		return multiValued;
+	}
+
+	/**
+	 * Whether {@code name} is set, either directly or, for collections, as
+	 * indexed keys. The value is not parsed.
+	 */
+	boolean isPresent(PropertySource source, String name) {
+		return source.getString(name).isPresent() || multiValued && source.getString(name + "[0]").isPresent();
+	}
+
+	static Optional<ValueType> of(Class<?> type) {
+		if (isString(type)) {
+			return Optional.of(STRING);
+		} else if (isLong(type)) {
+			return Optional.of(LONG);
+		} else if (isInt(type)) {
+			return Optional.of(INT);
+		} else if (isDouble(type)) {
+			return Optional.of(DOUBLE);
+		} else if (isFloat(type)) {
+			return Optional.of(FLOAT);
+		} else if (isBoolean(type)) {
+			return Optional.of(BOOLEAN);
+		} else if (isIntArray(type)) {
+			return Optional.of(INT_ARRAY);
+		} else if (isLongArray(type)) {
+			return Optional.of(LONG_ARRAY);
+		} else {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Like {@link #of(Class)}, but also recognises the parameterized
+	 * collections: {@code List<String>}, {@code Set<String>} and
+	 * {@code List<Integer>}.
+	 */
+	static Optional<ValueType> of(Type type) {
+		if (type instanceof Class) {
+			return of((Class<?>) type);
+		} else if (isStringList(type)) {
+			return Optional.of(STRING_LIST);
+		} else if (isStringSet(type)) {
+			return Optional.of(STRING_SET);
+		} else if (isIntList(type)) {
+			return Optional.of(INT_LIST);
+		} else {
+			return Optional.empty();
+		}
+	}
+}
@@ -13,5 +13,9 @@ import java.lang.annotation.Target;
 public @interface Property {
 	String name();
 
+	/**
+	 * If the property is missing, fields and setters are left untouched and
+	 * constructor parameters get {@code null}, zero or {@code false}.
+	 */
 	boolean optional() default false;
 }
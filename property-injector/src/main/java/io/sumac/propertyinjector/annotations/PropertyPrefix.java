@@ -0,0 +1,20 @@
+package io.sumac.propertyinjector.annotations;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Injects a field of a non-scalar type recursively. The {@link Property}
+ * names of the field's type are resolved relative to {@code value}, so with
+ * {@code @PropertyPrefix("db")} a nested {@code @Property(name = "url")} reads
+ * {@code db.url}. A field left {@code null} is constructed like
+ * {@code PropertyInjector.to}; otherwise the existing object is filled in.
+ */
+@Retention(RUNTIME)
+@Target(FIELD)
+public @interface PropertyPrefix {
+	String value();
+}
@@ -0,0 +1,213 @@
+package io.sumac.propertyinjector;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.sumac.propertyinjector.sample.Model1;
+import io.sumac.propertyinjector.sample.Model2;
+import io.sumac.propertyinjector.sample.Model25;
+import io.sumac.propertyinjector.sample.Model27;
+import io.sumac.propertyinjector.sample.Model28;
+import io.sumac.propertyinjector.sample.Model3;
+
+public class CachingPropertySourceTest {
+
+	private Map<String, String> props;
+	private AtomicInteger reads;
+	private PropertySource source;
+
+	@BeforeEach
+	public void setup() {
+		props = new HashMap<>();
+		props.put("test.found.string", "hello world");
+		props.put("test.found.boolean", "true");
+		props.put("test.found.int", "32");
+		props.put("test.found.long", "64");
+		props.put("test.found.double", "2.2");
+		props.put("test.found.float", "1.1");
+		reads = new AtomicInteger();
+		source = name -> {
+			reads.incrementAndGet();
+			return Optional.ofNullable(props.get(name));
+		};
+	}
+
+	@Test
+	public void testHitsAndMisses() {
+		CachingPropertySource systemUnderTest = CachingPropertySource.of(source, 100);
+		assertThat(systemUnderTest.getInt("test.found.int"), is(Optional.of(32)));
+		assertThat(systemUnderTest.getInt("test.found.int"), is(Optional.of(32)));
+		assertThat(systemUnderTest.getString("test.found.int"), is(Optional.of("32")));
+		assertThat(systemUnderTest.getLong("test.not_found.long"), is(Optional.empty()));
+		assertThat(systemUnderTest.getLong("test.not_found.long"), is(Optional.empty()));
+		assertAll(() -> assertThat(systemUnderTest.getHitCount(), is(2L)),
+				() -> assertThat(systemUnderTest.getMissCount(), is(3L)),
+				() -> assertThat(systemUnderTest.size(), is(3)), () -> assertThat(reads.get(), is(3)));
+	}
+
+	@Test
+	public void testInvalidate() {
+		CachingPropertySource systemUnderTest = CachingPropertySource.of(source, 100);
+		assertThat(systemUnderTest.getInt("test.found.int"), is(Optional.of(32)));
+		props.put("test.found.int", "64");
+		assertThat(systemUnderTest.getInt("test.found.int"), is(Optional.of(32)));
+		systemUnderTest.invalidate();
+		assertThat(systemUnderTest.size(), is(0));
+		assertThat(systemUnderTest.getInt("test.found.int"), is(Optional.of(64)));
+	}
+
+	@Test
+	public void testLeastRecentlyUsedIsEvicted() {
+		CachingPropertySource systemUnderTest = CachingPropertySource.of(source, 2, 1, InjectionListener.NONE);
+		systemUnderTest.getString("test.found.string");
+		systemUnderTest.getString("test.found.int");
+		systemUnderTest.getString("test.found.string");
+		systemUnderTest.getString("test.found.long");
+		assertThat(systemUnderTest.size(), is(2));
+		reads.set(0);
+		systemUnderTest.getString("test.found.string");
+		systemUnderTest.getString("test.found.long");
+		assertThat(reads.get(), is(0));
+		systemUnderTest.getString("test.found.int");
+		assertThat(reads.get(), is(1));
+	}
+
+	@Test
+	public void testInjection() {
+		CachingPropertySource cache = CachingPropertySource.of(source, 100);
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertySource(cache);
+		systemUnderTest.to(Model2.class);
+		long misses = cache.getMissCount();
+		Model2 output = systemUnderTest.to(Model2.class);
+		assertAll(() -> assertThat(cache.getMissCount(), is(misses)),
+				() -> assertThat(output.getFoundInteger(), is(32)), () -> assertThat(output.getFoundDouble(), is(2.2)));
+	}
+
+	@Test
+	public void testPrimitivesReadFromCache() {
+		for (AccessStrategy strategy : AccessStrategy.values()) {
+			PropertyInjector systemUnderTest = PropertyInjector.fromPropertySource(source).withValueCache(100)
+					.withAccessStrategy(strategy);
+			reads.set(0);
+			systemUnderTest.to(Model1.class);
+			systemUnderTest.to(Model3.class);
+			assertThat(strategy.name(), reads.get(), is(6));
+			Model1 fields = systemUnderTest.to(Model1.class);
+			Model3 parameters = systemUnderTest.to(Model3.class);
+			Model28 setters = new Model28();
+			systemUnderTest.fillIn(setters);
+			assertAll(() -> assertThat(reads.get(), is(6)),
+					() -> assertThat(fields.getFoundIntegerPrimitive(), is(32)),
+					() -> assertThat(fields.getFoundLongPrimitive(), is(64L)),
+					() -> assertThat(fields.getFoundDoublePrimitive(), is(2.2)),
+					() -> assertThat(fields.getFoundBooleanPrimitive(), is(true)),
+					() -> assertThat(parameters.getFoundFloatPrimitive(), is(1.1F)),
+					() -> assertThat(parameters.getFoundIntegerPrimitive(), is(32)),
+					() -> assertThat(setters.getFoundIntegerPrimitive(), is(32)));
+		}
+	}
+
+	@Test
+	public void testConvertedValuesReadFromCache() {
+		props.put("test.timeout", "PT30S");
+		props.put("test.address", "localhost:8080");
+		props.put("test.uri", "http://example.com/path");
+		props.put("test.strings", "a, b");
+		props.put("test.set", "");
+		props.put("test.integers", "1");
+		props.put("test.ints[0]", "4");
+		props.put("test.longs", "1");
+		AtomicInteger conversions = new AtomicInteger();
+		for (AccessStrategy strategy : AccessStrategy.values()) {
+			PropertyInjector systemUnderTest = PropertyInjector.fromPropertySource(source).withValueCache(100)
+					.withConverter(URI.class, value -> {
+						conversions.incrementAndGet();
+						return URI.create(value);
+					}).withAccessStrategy(strategy);
+			systemUnderTest.to(Model27.class);
+			systemUnderTest.to(Model25.class);
+			reads.set(0);
+			conversions.set(0);
+			Model27 converted = systemUnderTest.to(Model27.class);
+			Model25 collections = systemUnderTest.to(Model25.class);
+			assertAll(() -> assertThat(strategy.name(), reads.get(), is(0)),
+					() -> assertThat(conversions.get(), is(0)),
+					() -> assertThat(converted.getUri(), is(URI.create("http://example.com/path"))),
+					() -> assertThat(converted.getTimeout(), is(Duration.ofSeconds(30))),
+					() -> assertThat(collections.getStrings(), is(Arrays.asList("a", "b"))),
+					() -> assertThat(collections.getInts()[0], is(4)));
+		}
+	}
+
+	@Test
+	public void testSlowReadDoesNotBlockSegment() throws InterruptedException {
+		CountDownLatch reading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CachingPropertySource systemUnderTest = CachingPropertySource.of(name -> {
+			if (name.equals("slow")) {
+				reading.countDown();
+				await(release);
+			}
+			return Optional.ofNullable(props.get(name));
+		}, 100, 1, InjectionListener.NONE);
+		Thread slow = new Thread(() -> systemUnderTest.getString("slow"));
+		slow.start();
+		reading.await();
+		try {
+			assertTimeoutPreemptively(Duration.ofSeconds(5),
+					() -> assertThat(systemUnderTest.getInt("test.found.int"), is(Optional.of(32))));
+		} finally {
+			release.countDown();
+			slow.join();
+		}
+		assertThat(systemUnderTest.size(), is(2));
+	}
+
+	@Test
+	public void testInvalidateDuringRead() throws InterruptedException {
+		CountDownLatch reading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CachingPropertySource systemUnderTest = CachingPropertySource.of(name -> {
+			reading.countDown();
+			await(release);
+			return Optional.ofNullable(props.get(name));
+		}, 100, 1, InjectionListener.NONE);
+		Thread reader = new Thread(() -> systemUnderTest.getString("test.found.string"));
+		reader.start();
+		reading.await();
+		systemUnderTest.invalidate();
+		release.countDown();
+		reader.join();
+		assertThat(systemUnderTest.size(), is(0));
+	}
+
+	@Test
+	public void testMaximumSize() {
+		IllegalArgumentException output = assertThrows(IllegalArgumentException.class,
+				() -> CachingPropertySource.of(source, 0));
+		assertThat(output.getMessage(), is("Maximum size must be positive: 0"));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
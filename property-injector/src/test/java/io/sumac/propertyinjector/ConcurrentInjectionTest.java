@@ -0,0 +1,128 @@
+package io.sumac.propertyinjector;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.sumac.propertyinjector.sample.Model1;
+import io.sumac.propertyinjector.sample.Model2;
+import io.sumac.propertyinjector.sample.Model3;
+import io.sumac.propertyinjector.sample.Model35;
+
+public class ConcurrentInjectionTest {
+
+	private static final int THREADS = 200;
+	private static final int ITERATIONS = 100;
+
+	private Properties props;
+
+	@BeforeEach
+	public void setup() {
+		props = new Properties();
+		props.put("test.found.string", "hello world");
+		props.put("test.found.boolean", "true");
+		props.put("test.found.int", "32");
+		props.put("test.found.long", "64");
+		props.put("test.found.double", "2.2");
+		props.put("test.found.float", "1.1");
+	}
+
+	@Test
+	public void testPlatformThreads() throws Exception {
+		for (AccessStrategy strategy : AccessStrategy.values()) {
+			ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+			try {
+				assertThat(strategy.name(), run(executor, THREADS, injector(strategy)), is(Collections.emptyList()));
+			} finally {
+				executor.shutdown();
+			}
+		}
+	}
+
+	@Test
+	public void testVirtualThreads() throws Exception {
+		Optional<ExecutorService> virtualThreads = virtualThreads();
+		assumeTrue(virtualThreads.isPresent(), "virtual threads are not available");
+		ExecutorService executor = virtualThreads.get();
+		try {
+			for (AccessStrategy strategy : AccessStrategy.values()) {
+				assertThat(strategy.name(), run(executor, THREADS * 5, injector(strategy)),
+						is(Collections.emptyList()));
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * A fresh converter registry per injector, so that the threads also race
+	 * on building the plans.
+	 */
+	private PropertyInjector injector(AccessStrategy strategy) {
+		return PropertyInjector.fromProperties(props).withAccessStrategy(strategy)
+				.withConverter(StringBuilder.class, StringBuilder::new);
+	}
+
+	private static List<Throwable> run(ExecutorService executor, int tasks, PropertyInjector systemUnderTest)
+			throws Exception {
+		CountDownLatch start = new CountDownLatch(1);
+		Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < tasks; i++) {
+			futures.add(executor.submit(() -> {
+				try {
+					start.await();
+					for (int j = 0; j < ITERATIONS; j++) {
+						inject(systemUnderTest);
+					}
+				} catch (Throwable t) {
+					failures.add(t);
+				}
+			}));
+		}
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get(1, TimeUnit.MINUTES);
+		}
+		return new ArrayList<>(failures);
+	}
+
+	private static void inject(PropertyInjector systemUnderTest) {
+		Model1 fields = systemUnderTest.to(Model1.class);
+		Model2 setters = systemUnderTest.to(Model2.class);
+		Model3 constructor = systemUnderTest.to(Model3.class);
+		Model35 hierarchy = systemUnderTest.to(Model35.class);
+		Model1 filledIn = new Model1();
+		systemUnderTest.fillIn(filledIn);
+		if (fields.getFoundIntegerPrimitive() != 32 || !"hello world".equals(setters.getFoundString())
+				|| constructor.getFoundLong() != 64L || hierarchy.getFoundFloat() != 1.1F
+				|| !filledIn.getFoundBooleanPrimitive()) {
+			throw new AssertionError("Wrong values injected");
+		}
+	}
+
+	private static Optional<ExecutorService> virtualThreads() {
+		try {
+			return Optional.of((ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+					.invoke(null));
+		} catch (ReflectiveOperationException e) {
+			return Optional.empty();
+		}
+	}
+}
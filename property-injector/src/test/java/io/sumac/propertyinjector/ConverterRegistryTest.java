@@ -0,0 +1,44 @@
+package io.sumac.propertyinjector;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class ConverterRegistryTest {
+
+	@Test
+	public void testServiceForBuiltInType() {
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> ConverterRegistry.of(Collections.singletonList(TypeConverter.of(String.class, String::trim))));
+		assertThat(output.getMessage(), is("Built-in type cannot be converted: class java.lang.String"));
+	}
+
+	@Test
+	public void testServiceReplacesDefault() {
+		ConverterRegistry systemUnderTest = ConverterRegistry
+				.of(Arrays.asList(TypeConverter.of(Duration.class, Duration::parse)));
+		assertAll(
+				() -> assertThat(systemUnderTest.find(Duration.class).get().convert("PT2S"),
+						is(Duration.ofSeconds(2))),
+				() -> assertThat(systemUnderTest.find(DataSize.class).get().convert("2KiB"),
+						is(DataSize.ofBytes(2048))),
+				() -> assertThrows(Exception.class, () -> systemUnderTest.find(Duration.class).get().convert("2s")));
+	}
+
+	@Test
+	public void testWithSameRuleAsServices() {
+		ConverterRegistry systemUnderTest = ConverterRegistry.of(Collections.emptyList());
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.with(TypeConverter.of(Integer.class, Integer::valueOf)));
+		assertAll(() -> assertThat(output.getMessage(), is("Built-in type cannot be converted: class java.lang.Integer")),
+				() -> assertThat(systemUnderTest.with(TypeConverter.of(Duration.class, Duration::parse))
+						.find(Duration.class).get().convert("PT1M"), is(Duration.ofMinutes(1))));
+	}
+}
@@ -0,0 +1,44 @@
+package io.sumac.propertyinjector;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class DelimitedTest {
+
+	@Test
+	public void testStrings() {
+		assertThat(Delimited.strings("a, b ,,c"), is(Arrays.asList("a", "b", "", "c")));
+		assertThat(Delimited.strings(" "), is(Collections.emptyList()));
+		assertThat(Delimited.strings("a,"), is(Arrays.asList("a", "")));
+	}
+
+	@Test
+	public void testInts() {
+		assertThat(Delimited.ints("1,2,3,4,5,6,7,8,9,10,11, -12"),
+				is(new int[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, -12 }));
+		assertThat(Delimited.ints("2147483647,-2147483648"), is(new int[] { Integer.MAX_VALUE, Integer.MIN_VALUE }));
+		assertThat(Delimited.ints(""), is(new int[0]));
+	}
+
+	@Test
+	public void testLongs() {
+		assertThat(Delimited.longs("+9223372036854775807,-9223372036854775808"),
+				is(new long[] { Long.MAX_VALUE, Long.MIN_VALUE }));
+	}
+
+	@Test
+	public void testInvalidNumbers() {
+		NumberFormatException output = assertThrows(NumberFormatException.class, () -> Delimited.ints("1,2x,3"));
+		assertThat(output.getMessage(), is("For input string: \"2x\""));
+		assertThrows(NumberFormatException.class, () -> Delimited.ints("2147483648"));
+		assertThrows(NumberFormatException.class, () -> Delimited.ints("1,,2"));
+		assertThrows(NumberFormatException.class, () -> Delimited.ints("-"));
+		assertThrows(NumberFormatException.class, () -> Delimited.longs("9223372036854775808"));
+	}
+}
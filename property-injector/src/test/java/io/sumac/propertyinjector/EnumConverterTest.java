@@ -0,0 +1,48 @@
+package io.sumac.propertyinjector;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.sumac.propertyinjector.sample.Model37;
+
+public class EnumConverterTest {
+
+	enum Ambiguous {
+		FOO_BAR, Foo_Bar, BAZ
+	}
+
+	@Test
+	public void testConvert() {
+		TypeConverter<?> systemUnderTest = EnumConverter.of(Model37.Mode.class);
+		assertAll(() -> assertThat(systemUnderTest.convert("READ_ONLY"), is(Model37.Mode.READ_ONLY)),
+				() -> assertThat(systemUnderTest.convert("read-only"), is(Model37.Mode.READ_ONLY)),
+				() -> assertThat(systemUnderTest.convert(" Standby "), is(Model37.Mode.STANDBY)),
+				() -> assertThat(EnumConverter.of(TimeUnit.class).convert("seconds"), is(TimeUnit.SECONDS)),
+				() -> assertThat(EnumConverter.of(Model37.Mode.class), sameInstance(systemUnderTest)));
+	}
+
+	@Test
+	public void testUnknownName() {
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> EnumConverter.of(Model37.Mode.class).convert("passive"));
+		assertThat(output.getMessage(), is("Invalid Mode: 'passive'"));
+	}
+
+	@Test
+	public void testCollidingNames() {
+		TypeConverter<?> systemUnderTest = EnumConverter.of(Ambiguous.class);
+		assertAll(() -> assertThat(systemUnderTest.convert("FOO_BAR"), is(Ambiguous.FOO_BAR)),
+				() -> assertThat(systemUnderTest.convert("Foo_Bar"), is(Ambiguous.Foo_Bar)),
+				() -> assertThat(systemUnderTest.convert("baz"), is(Ambiguous.BAZ)));
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.convert("foo-bar"));
+		assertThat(output.getMessage(), is("Invalid Ambiguous: 'foo-bar'"));
+	}
+}
@@ -0,0 +1,169 @@
+package io.sumac.propertyinjector;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.sumac.propertyinjector.sample.HostAndPortConverter;
+import io.sumac.propertyinjector.sample.Model1;
+import io.sumac.propertyinjector.sample.Model2;
+import io.sumac.propertyinjector.sample.Model20;
+import io.sumac.propertyinjector.sample.Model21;
+import io.sumac.propertyinjector.sample.Model22;
+import io.sumac.propertyinjector.sample.Model23;
+import io.sumac.propertyinjector.sample.Model27;
+import io.sumac.propertyinjector.sample.Model5;
+
+public class InjectionMetricsTest {
+
+	private Properties props;
+
+	@BeforeEach
+	public void setup() {
+		props = new Properties();
+		props.put("test.found.string", "hello world");
+		props.put("test.found.boolean", "true");
+		props.put("test.found.int", "32");
+		props.put("test.found.long", "64");
+		props.put("test.found.double", "2.2");
+		props.put("test.found.float", "1.1");
+	}
+
+	@Test
+	public void testInjection() {
+		InjectionMetrics metrics = new InjectionMetrics();
+		PropertyInjector systemUnderTest = PropertyInjector.fromProperties(props).withListener(metrics);
+		systemUnderTest.to(Model1.class);
+		systemUnderTest.fillIn(new Model1());
+		assertAll(() -> assertThat(metrics.getPlanBuildNanos().containsKey(Model1.class), is(true)),
+				() -> assertThat(metrics.getInjectionLatencies().get(Model1.class).getCount(), is(2L)),
+				() -> assertThat(metrics.getResolutionLatency().getCount(), is(22L)),
+				() -> assertThat(metrics.getFailures(), is(0L)),
+				() -> assertThat(metrics.toString(), containsString("inject " + Model1.class.getName())));
+	}
+
+	@Test
+	public void testFillInChanged() {
+		InjectionMetrics metrics = new InjectionMetrics();
+		PropertyInjector systemUnderTest = PropertyInjector.fromProperties(props).withListener(metrics);
+		systemUnderTest.fillInChanged(new Model2());
+		long resolved = metrics.getResolutionLatency().getCount();
+		assertThrows(PropertyInjectorException.class, () -> systemUnderTest.fillInChanged(new Model5()));
+		assertAll(() -> assertThat(metrics.getInjectionLatencies().get(Model2.class).getCount(), is(1L)),
+				() -> assertThat(resolved, is(11L)), () -> assertThat(metrics.getFailures(), is(1L)));
+	}
+
+	@Test
+	public void testFailure() {
+		InjectionMetrics metrics = new InjectionMetrics();
+		PropertyInjector systemUnderTest = PropertyInjector.fromProperties(props).withListener(metrics);
+		assertThrows(PropertyInjectorException.class, () -> systemUnderTest.to(Model5.class));
+		assertThat(metrics.getFailures(), is(1L));
+	}
+
+	@Test
+	public void testPlanBuildIsReportedOnce() {
+		InjectionMetrics first = new InjectionMetrics();
+		InjectionMetrics second = new InjectionMetrics();
+		PropertyInjector injector = PropertyInjector.fromProperties(props);
+		injector.withListener(first).to(Model20.class);
+		injector.withListener(second).to(Model20.class);
+		assertThat(first.getPlanBuildNanos().containsKey(Model20.class), is(true));
+		assertThat(second.getPlanBuildNanos().containsKey(Model20.class), is(false));
+	}
+
+	@Test
+	public void testCache() {
+		InjectionMetrics metrics = new InjectionMetrics();
+		CachingPropertySource cache = CachingPropertySource.of(PropertySnapshot.of(props), 100, metrics);
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertySource(cache).withListener(metrics);
+		systemUnderTest.to(Model2.class);
+		systemUnderTest.to(Model2.class);
+		assertThat(metrics.getCacheMisses(), is(cache.getMissCount()));
+		assertThat(metrics.getCacheHits(), is(cache.getHitCount()));
+		assertThat(metrics.getCacheHits() > 0, is(true));
+	}
+
+	@Test
+	public void testNestedPlansAreReported() {
+		InjectionMetrics metrics = new InjectionMetrics();
+		PropertyInjector systemUnderTest = PropertyInjector.fromProperties(props)
+				.withConverter(new HostAndPortConverter()).withListener(metrics);
+		systemUnderTest.to(Model21.class);
+		assertThat(metrics.getPlanBuildNanos().keySet(),
+				is(new HashSet<>(Arrays.asList(Model21.class, Model22.class, Model23.class))));
+	}
+
+	@Test
+	public void testValueCacheReportsToListener() {
+		InjectionMetrics metrics = new InjectionMetrics();
+		PropertyInjector systemUnderTest = PropertyInjector.fromProperties(props).withValueCache(100)
+				.withListener(metrics);
+		systemUnderTest.to(Model2.class);
+		long misses = metrics.getCacheMisses();
+		systemUnderTest.to(Model2.class);
+		assertAll(() -> assertThat(misses > 0, is(true)), () -> assertThat(metrics.getCacheMisses(), is(misses)),
+				() -> assertThat(metrics.getCacheHits() >= misses, is(true)));
+	}
+
+	@Test
+	public void testParsingIsTimed() {
+		props.put("test.timeout", "PT30S");
+		props.put("test.address", "localhost:8080");
+		props.put("test.uri", "http://example.com/path");
+		List<String> events = Collections.synchronizedList(new ArrayList<>());
+		PropertySource snapshot = PropertySnapshot.of(props);
+		PropertySource source = new PropertySource() {
+			@Override
+			public Optional<String> getString(String name) {
+				return snapshot.getString(name);
+			}
+
+			@Override
+			public Optional<Integer> getInt(String name) {
+				events.add("parse " + name);
+				return snapshot.getInt(name);
+			}
+		};
+		InjectionListener listener = new InjectionListener() {
+			@Override
+			public void propertyResolved(String name, long nanos) {
+				events.add("resolved " + name);
+			}
+		};
+		for (AccessStrategy strategy : AccessStrategy.values()) {
+			events.clear();
+			PropertyInjector systemUnderTest = PropertyInjector.fromPropertySource(source)
+					.withConverter(URI.class, value -> {
+						events.add("convert test.uri");
+						return URI.create(value);
+					}).withConverter(Duration.class, Duration::parse).withConverter(new HostAndPortConverter())
+					.withAccessStrategy(strategy).withListener(listener);
+			systemUnderTest.to(Model1.class);
+			systemUnderTest.to(Model27.class);
+			assertAll(() -> assertThat(events.contains("parse test.found.int"), is(true)),
+					() -> assertThat(events.contains("convert test.uri"), is(true)));
+			for (int i = 0; i < events.size(); i++) {
+				String event = events.get(i);
+				if (!event.startsWith("resolved ")) {
+					assertThat(event, events.get(i + 1), is("resolved " + event.substring(event.indexOf(' ') + 1)));
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package io.sumac.propertyinjector;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+
+import io.sumac.propertyinjector.sample.HostAndPort;
+import io.sumac.propertyinjector.sample.Model1;
+import io.sumac.propertyinjector.sample.Model13;
+import io.sumac.propertyinjector.sample.Model17;
+import io.sumac.propertyinjector.sample.Model2;
+import io.sumac.propertyinjector.sample.Model27;
+import io.sumac.propertyinjector.sample.Model3;
+
+public class InjectionPlanTest {
+
+	@Test
+	public void testPlanIsCachedPerClass() {
+		assertThat(InjectionPlan.of(Model1.class), sameInstance(InjectionPlan.of(Model1.class)));
+		assertThat(InjectionPlan.of(Model1.class), not(sameInstance(InjectionPlan.of(Model2.class))));
+	}
+
+	@Test
+	public void testBuildDoesNotUseCache() {
+		assertThat(InjectionPlan.build(Model1.class), not(sameInstance(InjectionPlan.of(Model1.class))));
+	}
+
+	@Test
+	public void testMemberBindings() {
+		assertThat(InjectionPlan.of(Model1.class).getMembers().size(), is(11));
+		assertThat(InjectionPlan.of(Model2.class).getMembers().size(), is(11));
+		assertThat(InjectionPlan.of(Model3.class).getMembers().size(), is(0));
+	}
+
+	@Test
+	public void testConstructorBindingIsCached() {
+		InjectionPlan plan = InjectionPlan.of(Model3.class);
+		assertThat(plan.getConstructor(), sameInstance(plan.getConstructor()));
+		assertThat(plan.getConstructor().getSlots().length, is(11));
+	}
+
+	@Test
+	public void testConstructorIsOnlyValidatedWhenConstructing() {
+		Properties props = new Properties();
+		props.put("test.found.string", "hello world");
+		PropertyInjector systemUnderTest = PropertyInjector.fromProperties(props);
+		Model13 model = new Model13();
+		systemUnderTest.fillIn(model);
+		assertThrows(PropertyInjectorException.class, () -> InjectionPlan.of(Model13.class).getConstructor());
+	}
+
+	@Test
+	public void testSlot() {
+		Slot slot = InjectionPlan.of(Model17.class).getMembers().get(0).getSlot();
+		assertThat(slot.getName(), is("test.found.string"));
+		assertThat(slot.isOptional(), is(false));
+		assertThat(slot.getValueType(), is(ValueType.STRING));
+	}
+
+	@Test
+	public void testPlanIsCachedPerRegistry() {
+		ConverterRegistry registry = ConverterRegistry.defaults().with(TypeConverter.of(Duration.class, Duration::parse));
+		assertThat(registry.plan(Model1.class), sameInstance(registry.plan(Model1.class)));
+		assertThat(registry.plan(Model1.class), not(sameInstance(InjectionPlan.of(Model1.class))));
+		assertThat(ConverterRegistry.defaults().plan(Model1.class), sameInstance(InjectionPlan.of(Model1.class)));
+	}
+
+	@Test
+	public void testConverterIsResolvedAtBuildTime() {
+		TypeConverter<Duration> converter = TypeConverter.of(Duration.class, Duration::parse);
+		InjectionPlan plan = ConverterRegistry.defaults().with(converter)
+				.with(TypeConverter.of(URI.class, URI::create)).plan(Model27.class);
+		Slot slot = plan.getConstructor().getSlots()[0];
+		assertThat(slot.getConverter(), sameInstance(converter));
+		assertThat(slot.getValueType(), is(nullValue()));
+		assertThat(plan.getMembers().get(0).getSlot().getConverter().getType(), is(sameInstance(HostAndPort.class)));
+	}
+}
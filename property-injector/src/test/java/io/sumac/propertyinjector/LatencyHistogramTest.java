@@ -0,0 +1,57 @@
+package io.sumac.propertyinjector;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void testEmpty() {
+		LatencyHistogram systemUnderTest = new LatencyHistogram();
+		assertThat(systemUnderTest.getCount(), is(0L));
+		assertThat(systemUnderTest.getPercentile(99), is(0L));
+		assertThat(systemUnderTest.getMean(), is(0.0));
+	}
+
+	@Test
+	public void testPercentiles() {
+		LatencyHistogram systemUnderTest = new LatencyHistogram();
+		for (long i = 1; i <= 1000; i++) {
+			systemUnderTest.record(i * 1000);
+		}
+		assertThat(systemUnderTest.getCount(), is(1000L));
+		assertThat(systemUnderTest.getMax(), is(1000000L));
+		assertThat(systemUnderTest.getMean(), is(500500.0));
+		assertWithin(systemUnderTest.getPercentile(50), 500000);
+		assertWithin(systemUnderTest.getPercentile(99), 990000);
+		assertThat(systemUnderTest.getPercentile(100), is(1000000L));
+	}
+
+	@Test
+	public void testSmallValuesAreExact() {
+		LatencyHistogram systemUnderTest = new LatencyHistogram();
+		systemUnderTest.record(3);
+		systemUnderTest.record(7);
+		systemUnderTest.record(-1);
+		assertThat(systemUnderTest.getPercentile(34), is(3L));
+		assertThat(systemUnderTest.getPercentile(1), is(0L));
+	}
+
+	@Test
+	public void testBuckets() {
+		for (long value : new long[] { 0, 15, 16, 17, 1000, 123456789, Long.MAX_VALUE }) {
+			long bound = LatencyHistogram.upperBound(LatencyHistogram.index(value));
+			assertThat(bound, greaterThanOrEqualTo(value));
+			assertThat(bound - value, lessThanOrEqualTo(value / 8));
+		}
+	}
+
+	private static void assertWithin(long actual, long expected) {
+		assertThat(actual, greaterThanOrEqualTo(expected));
+		assertThat(actual, lessThanOrEqualTo(expected + expected / 8));
+	}
+}
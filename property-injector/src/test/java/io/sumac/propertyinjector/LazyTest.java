@@ -0,0 +1,82 @@
+package io.sumac.propertyinjector;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class LazyTest {
+
+	@Test
+	public void testResolvedOnce() {
+		AtomicInteger calls = new AtomicInteger();
+		Lazy<String> systemUnderTest = Lazy.of(() -> "value" + calls.incrementAndGet());
+		assertThat(systemUnderTest.isResolved(), is(false));
+		assertThat(systemUnderTest.get(), is("value1"));
+		assertThat(systemUnderTest.get(), is("value1"));
+		assertThat(systemUnderTest.isResolved(), is(true));
+		assertThat(systemUnderTest.toString(), is("Lazy[value1]"));
+	}
+
+	@Test
+	public void testNullIsResolved() {
+		AtomicInteger calls = new AtomicInteger();
+		Lazy<String> systemUnderTest = Lazy.of(() -> {
+			calls.incrementAndGet();
+			return null;
+		});
+		assertThat(systemUnderTest.get(), nullValue());
+		assertThat(systemUnderTest.get(), nullValue());
+		assertThat(calls.get(), is(1));
+	}
+
+	@Test
+	public void testFailureIsNotResolved() {
+		AtomicInteger calls = new AtomicInteger();
+		Lazy<String> systemUnderTest = Lazy.of(() -> {
+			if (calls.incrementAndGet() == 1) {
+				throw PropertyInjectorException.propertyNotFound("name");
+			}
+			return "value";
+		});
+		assertThrows(PropertyInjectorException.class, () -> systemUnderTest.get());
+		assertThat(systemUnderTest.isResolved(), is(false));
+		assertThat(systemUnderTest.get(), is("value"));
+	}
+
+	@Test
+	public void testConcurrentFirstAccessPublishesOneValue() throws Exception {
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			for (int round = 0; round < 100; round++) {
+				Lazy<Object> systemUnderTest = Lazy.of(Object::new);
+				CountDownLatch start = new CountDownLatch(1);
+				List<Future<Object>> results = new ArrayList<>();
+				for (int i = 0; i < threads; i++) {
+					results.add(executor.submit(() -> {
+						start.await();
+						return systemUnderTest.get();
+					}));
+				}
+				start.countDown();
+				for (Future<Object> result : results) {
+					assertThat(result.get(), sameInstance(systemUnderTest.get()));
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package io.sumac.propertyinjector;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.sumac.propertyinjector.sample.Model1;
+
+public class MappedPropertySourceTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void testSameAsProperties() throws IOException {
+		Path file = write("# comment\n" + "! other comment\\\n" + "plain=value\n" + "  indented  =  spaced value  \n"
+				+ "colon:value\n" + "space value\n" + "tab\tvalue\n" + "double==value\n" + "empty=\n" + "bare\n"
+				+ "continued=first, \\\n    second, \\\r\n\tthird\n" + "key\\ with\\=escapes=value\n"
+				+ "unicode=\\u0041\\u00e9\\t\\n\\\\\n" + "latin1=caf\u00e9\n" + "duplicate=first\r\n"
+				+ "duplicate=second\r" + "con\\\n  tinued.key = value\n" + "last=no line break");
+		Properties expected = new Properties();
+		try (InputStream in = Files.newInputStream(file)) {
+			expected.load(in);
+		}
+		MappedPropertySource systemUnderTest = MappedPropertySource.open(file);
+		assertThat(systemUnderTest.size(), is(expected.size()));
+		for (String name : expected.stringPropertyNames()) {
+			assertThat(name, systemUnderTest.getString(name), is(Optional.of(expected.getProperty(name))));
+		}
+		assertAll(() -> assertThat(systemUnderTest.getString("duplicate"), is(Optional.of("second"))),
+				() -> assertThat(systemUnderTest.getString("continued"), is(Optional.of("first, second, third"))),
+				() -> assertThat(systemUnderTest.getString("key with=escapes"), is(Optional.of("value"))),
+				() -> assertThat(systemUnderTest.getString("comment"), is(Optional.empty())),
+				() -> assertThat(systemUnderTest.getString("plai"), is(Optional.empty())));
+	}
+
+	@Test
+	public void testManyKeys() throws IOException {
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 10000; i++) {
+			content.append("feature.").append(i).append(".enabled=").append(i % 2 == 0).append('\n');
+		}
+		MappedPropertySource systemUnderTest = MappedPropertySource.open(write(content.toString()));
+		assertAll(() -> assertThat(systemUnderTest.size(), is(10000)),
+				() -> assertThat(systemUnderTest.getBoolean("feature.0.enabled"), is(Optional.of(true))),
+				() -> assertThat(systemUnderTest.getBoolean("feature.9999.enabled"), is(Optional.of(false))),
+				() -> assertThat(systemUnderTest.getString("feature.10000.enabled"), is(Optional.empty())));
+	}
+
+	@Test
+	public void testEmptyFile() throws IOException {
+		MappedPropertySource systemUnderTest = MappedPropertySource.open(write(""));
+		assertAll(() -> assertThat(systemUnderTest.size(), is(0)),
+				() -> assertThat(systemUnderTest.getString("any"), is(Optional.empty())));
+	}
+
+	@Test
+	public void testMalformedEscape() throws IOException {
+		MappedPropertySource systemUnderTest = MappedPropertySource.open(write("bad=\\u00zz\n"));
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.getString("bad"));
+		assertThat(output.getMessage(), is("Malformed \\uxxxx encoding"));
+	}
+
+	@Test
+	public void testFromMappedFile() throws IOException {
+		Path file = write("test.found.string=hello world\ntest.found.boolean=true\ntest.found.int=32\n"
+				+ "test.found.long=64\ntest.found.double=2.2\ntest.found.float=1.1\n");
+		Model1 output = PropertyInjector.fromMappedFile(file).to(Model1.class);
+		assertAll(() -> assertThat(output.getFoundString(), is("hello world")),
+				() -> assertThat(output.getFoundIntegerPrimitive(), is(32)),
+				() -> assertThat(output.getFoundDouble(), is(2.2)),
+				() -> assertThat(output.getFoundBooleanPrimitive(), is(true)));
+	}
+
+	@Test
+	public void testMissingFile() {
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> MappedPropertySource.open(directory.resolve("missing.properties")));
+		assertThat(output.getMessage(), is("Could not read " + directory.resolve("missing.properties")));
+	}
+
+	private Path write(String content) throws IOException {
+		return Files.write(directory.resolve("test.properties"), content.getBytes(StandardCharsets.ISO_8859_1));
+	}
+}
@@ -0,0 +1,77 @@
+package io.sumac.propertyinjector;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.sumac.propertyinjector.PropertyIndex.Binding;
+
+public class PropertyIndexTest {
+
+	@Test
+	public void testRead() throws IOException {
+		Map<String, List<Binding>> systemUnderTest = read("# comment", "com.example.Config",
+				"\tparameter 0 required test.found.string", "\tfield port optional server port",
+				"com.example.Outer$Inner", "\tsetter setName required a\\\\b\\nc");
+		List<Binding> config = systemUnderTest.get("com.example.Config");
+		Binding setter = systemUnderTest.get("com.example.Outer$Inner").get(0);
+		assertAll(
+				() -> assertThat(systemUnderTest.keySet(),
+						is(new LinkedHashSet<>(Arrays.asList("com.example.Config", "com.example.Outer$Inner")))),
+				() -> assertThat(config.get(0).getKind(), is(Binding.Kind.PARAMETER)),
+				() -> assertThat(config.get(0).getMember(), is("0")),
+				() -> assertThat(config.get(1).getProperty(), is("server port")),
+				() -> assertThat(config.get(1).isOptional(), is(true)),
+				() -> assertThat(setter.getKind(), is(Binding.Kind.SETTER)),
+				() -> assertThat(setter.getProperty(), is("a\\b\nc")),
+				() -> assertThat(setter.toString(), is("setter setName required a\\\\b\\nc")));
+	}
+
+	@Test
+	public void testReadMalformed() {
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> read("com.example.Config", "\tconstructor 0 required test.found.string"));
+		assertThat(output.getMessage(), is("Malformed index line: constructor 0 required test.found.string"));
+		output = assertThrows(PropertyInjectorException.class, () -> read("\tfield port required port"));
+		assertThat(output.getMessage(), is("Malformed index line: field port required port"));
+	}
+
+	@Test
+	public void testReadInTurkishLocale() throws IOException {
+		Locale locale = Locale.getDefault();
+		Locale.setDefault(new Locale("tr", "TR"));
+		try {
+			Binding field = read("com.example.Config", "\tfield port required port").get("com.example.Config").get(0);
+			assertAll(() -> assertThat(field.getKind(), is(Binding.Kind.FIELD)),
+					() -> assertThat(field.toString(), is("field port required port")));
+		} finally {
+			Locale.setDefault(locale);
+		}
+	}
+
+	@Test
+	public void testLoadWithoutIndex() {
+		PropertyIndex systemUnderTest = PropertyIndex.load(getClass().getClassLoader());
+		assertAll(() -> assertThat(systemUnderTest.getClassNames().isEmpty(), is(true)),
+				() -> assertThat(systemUnderTest.getBindings("com.example.Config").isEmpty(), is(true)));
+	}
+
+	private static Map<String, List<Binding>> read(String... lines) throws IOException {
+		Map<String, List<Binding>> bindings = new LinkedHashMap<>();
+		PropertyIndex.read(new BufferedReader(new StringReader(String.join("\n", lines))), bindings);
+		return bindings;
+	}
+}
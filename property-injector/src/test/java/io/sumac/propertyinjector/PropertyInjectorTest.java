@@ -0,0 +1,1132 @@
+package io.sumac.propertyinjector;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Test;
+
+import io.sumac.propertyinjector.sample.Model1;
+import io.sumac.propertyinjector.sample.Model10;
+import io.sumac.propertyinjector.sample.Model11;
+import io.sumac.propertyinjector.sample.Model12;
+import io.sumac.propertyinjector.sample.Model13;
+import io.sumac.propertyinjector.sample.Model14;
+import io.sumac.propertyinjector.sample.Model15;
+import io.sumac.propertyinjector.sample.Model16;
+import io.sumac.propertyinjector.sample.Model17;
+import io.sumac.propertyinjector.sample.Model18;
+import io.sumac.propertyinjector.sample.Model19;
+import io.sumac.propertyinjector.sample.Model2;
+import io.sumac.propertyinjector.sample.Model21;
+import io.sumac.propertyinjector.sample.Model22;
+import io.sumac.propertyinjector.sample.Model24;
+import io.sumac.propertyinjector.sample.Model25;
+import io.sumac.propertyinjector.sample.Model26;
+import io.sumac.propertyinjector.sample.Model27;
+import io.sumac.propertyinjector.sample.Model28;
+import io.sumac.propertyinjector.sample.Model29;
+import io.sumac.propertyinjector.sample.Model3;
+import io.sumac.propertyinjector.sample.Model30;
+import io.sumac.propertyinjector.sample.Model35;
+import io.sumac.propertyinjector.sample.Model36;
+import io.sumac.propertyinjector.sample.Model37;
+import io.sumac.propertyinjector.sample.Model38;
+import io.sumac.propertyinjector.sample.Model39;
+import io.sumac.propertyinjector.sample.Model40Injector;
+import io.sumac.propertyinjector.sample.Model41;
+import io.sumac.propertyinjector.sample.Model4;
+import io.sumac.propertyinjector.sample.Model5;
+import io.sumac.propertyinjector.sample.Model6;
+import io.sumac.propertyinjector.sample.Model7;
+import io.sumac.propertyinjector.sample.Model8;
+import io.sumac.propertyinjector.sample.Model9;
+import io.sumac.propertyresolver.PropertyResolver;
+
+public class PropertyInjectorTest {
+
+	private static final Logger LOGGER = LogManager.getLogger(PropertyInjectorTest.class);
+
+	private BiConsumer<String, String> customLoggingInspector = (key, value) -> {
+		LOGGER.debug("{}={}", key, value);
+	};
+
+	private Consumer<String> customLoggingPropertyNotFoundHandler = key -> {
+		LOGGER.warn("{}=<NULL>", key);
+	};
+
+	private UnaryOperator<String> customToUpperCaseTransformer = s -> s.toUpperCase();
+
+	@Test
+	public void toTest_fields() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver);
+		Model1 output = systemUnderTest.to(Model1.class);
+		validate(output);
+	}
+
+	@Test
+	public void toTest_methods() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver);
+		Model2 output = systemUnderTest.to(Model2.class);
+		validate(output);
+	}
+
+	@Test
+	public void toTest_parameters() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver);
+		Model3 output = systemUnderTest.to(Model3.class);
+		validate(output);
+	}
+
+	@Test
+	public void fillInTest_fields() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver);
+		Model1 model = new Model1();
+		systemUnderTest.fillIn(model);
+		validate(model);
+	}
+
+	@Test
+	public void fillInTest_methods() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver);
+		Model2 model = new Model2();
+		systemUnderTest.fillIn(model);
+		validate(model);
+	}
+
+	@Test
+	public void toTest_fields_methodHandles() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver)
+				.withAccessStrategy(AccessStrategy.METHOD_HANDLES);
+		Model1 output = systemUnderTest.to(Model1.class);
+		validate(output);
+	}
+
+	@Test
+	public void toTest_methods_methodHandles() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver)
+				.withAccessStrategy(AccessStrategy.METHOD_HANDLES);
+		Model2 output = systemUnderTest.to(Model2.class);
+		validate(output);
+	}
+
+	@Test
+	public void toTest_parameters_methodHandles() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver)
+				.withAccessStrategy(AccessStrategy.METHOD_HANDLES);
+		Model3 output = systemUnderTest.to(Model3.class);
+		validate(output);
+	}
+
+	@Test
+	public void toTest_optionalMethods_methodHandles() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver)
+				.withAccessStrategy(AccessStrategy.METHOD_HANDLES);
+		Model8 output = systemUnderTest.to(Model8.class);
+		assertAll(() -> assertThat(output.getFoundString(), is("HELLO WORLD")),
+				() -> assertThat(output.getNotFoundString(), nullValue()));
+	}
+
+	@Test
+	public void toTest_fields_compiled() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver)
+				.withAccessStrategy(AccessStrategy.COMPILED);
+		Model1 output = systemUnderTest.to(Model1.class);
+		validate(output);
+	}
+
+	@Test
+	public void toTest_methods_compiled() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver)
+				.withAccessStrategy(AccessStrategy.COMPILED);
+		Model2 output = systemUnderTest.to(Model2.class);
+		validate(output);
+	}
+
+	@Test
+	public void toTest_parameters_compiled() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver)
+				.withAccessStrategy(AccessStrategy.COMPILED);
+		Model3 output = systemUnderTest.to(Model3.class);
+		validate(output);
+	}
+
+	@Test
+	public void fillInTest_methods_compiled() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver)
+				.withAccessStrategy(AccessStrategy.COMPILED);
+		Model2 model = new Model2();
+		systemUnderTest.fillIn(model);
+		validate(model);
+	}
+
+	@Test
+	public void toTest_missingParameters_compiled() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver)
+				.withAccessStrategy(AccessStrategy.COMPILED);
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.to(Model6.class));
+		assertThat(output.getMessage(), is("Property not found: 'test.not_found.string'"));
+	}
+
+	@Test
+	public void toTest_missingFields() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver);
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.to(Model4.class));
+		assertThat(output.getMessage(), is("Property not found: 'test.not_found.string'"));
+	}
+
+	@Test
+	public void toTest_missingMethods() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver);
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.to(Model5.class));
+		assertThat(output.getMessage(), is("Property not found: 'test.not_found.string'"));
+	}
+
+	@Test
+	public void toTest_missingParameters() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver);
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.to(Model6.class));
+		assertThat(output.getMessage(), is("Property not found: 'test.not_found.string'"));
+	}
+
+	@Test
+	public void toTest_optionalFields() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver);
+		Model7 output = systemUnderTest.to(Model7.class);
+		assertAll(() -> assertThat(output.getFoundString(), is("HELLO WORLD")),
+				() -> assertThat(output.getNotFoundString(), nullValue()));
+	}
+
+	@Test
+	public void toTest_optionalMethods() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver);
+		Model8 output = systemUnderTest.to(Model8.class);
+		assertAll(() -> assertThat(output.getFoundString(), is("HELLO WORLD")),
+				() -> assertThat(output.getNotFoundString(), nullValue()));
+	}
+
+	@Test
+	public void toTest_optionalParameters() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver);
+		Model9 output = systemUnderTest.to(Model9.class);
+		assertAll(() -> assertThat(output.getFoundString(), is("HELLO WORLD")),
+				() -> assertThat(output.getNotFoundString(), nullValue()));
+	}
+
+	@Test
+	public void toTest_optionalPrimitives() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver)
+				.withAccessStrategy(AccessStrategy.REFLECTION);
+		Model18 output = systemUnderTest.to(Model18.class);
+		assertAll(() -> assertThat(output.getNotFoundIntegerPrimitive(), is(8080)),
+				() -> assertThat(output.getNotFoundBooleanPrimitive(), is(true)),
+				() -> assertThat(output.getNotFoundLongPrimitive(), is(64L)));
+	}
+
+	@Test
+	public void toTest_optionalPrimitiveParameters() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver)
+				.withAccessStrategy(AccessStrategy.REFLECTION);
+		Model19 output = systemUnderTest.to(Model19.class);
+		assertAll(() -> assertThat(output.getFoundIntegerPrimitive(), is(32)),
+				() -> assertThat(output.getNotFoundDoublePrimitive(), is(0D)));
+	}
+
+	@Test
+	public void toTest_optionalPrimitives_methodHandles() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver)
+				.withAccessStrategy(AccessStrategy.METHOD_HANDLES);
+		Model18 output = systemUnderTest.to(Model18.class);
+		assertAll(() -> assertThat(output.getNotFoundIntegerPrimitive(), is(8080)),
+				() -> assertThat(output.getNotFoundBooleanPrimitive(), is(true)),
+				() -> assertThat(output.getNotFoundLongPrimitive(), is(64L)));
+	}
+
+	@Test
+	public void toTest_optionalPrimitiveParameters_methodHandles() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver)
+				.withAccessStrategy(AccessStrategy.METHOD_HANDLES);
+		Model19 output = systemUnderTest.to(Model19.class);
+		assertAll(() -> assertThat(output.getFoundIntegerPrimitive(), is(32)),
+				() -> assertThat(output.getNotFoundDoublePrimitive(), is(0D)));
+	}
+
+	@Test
+	public void toTest_optionalPrimitives_compiled() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver)
+				.withAccessStrategy(AccessStrategy.COMPILED);
+		Model18 output = systemUnderTest.to(Model18.class);
+		assertAll(() -> assertThat(output.getNotFoundIntegerPrimitive(), is(8080)),
+				() -> assertThat(output.getNotFoundBooleanPrimitive(), is(true)),
+				() -> assertThat(output.getNotFoundLongPrimitive(), is(64L)));
+	}
+
+	@Test
+	public void toTest_optionalPrimitiveParameters_compiled() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver)
+				.withAccessStrategy(AccessStrategy.COMPILED);
+		Model19 output = systemUnderTest.to(Model19.class);
+		assertAll(() -> assertThat(output.getFoundIntegerPrimitive(), is(32)),
+				() -> assertThat(output.getNotFoundDoublePrimitive(), is(0D)));
+	}
+
+	@Test
+	public void toTest_missingOptionalPrimitivesKeepDefaults() {
+		Properties props = new Properties();
+		props.put("test.found.int", "32");
+		for (AccessStrategy strategy : AccessStrategy.values()) {
+			PropertyInjector systemUnderTest = PropertyInjector.fromProperties(props).withAccessStrategy(strategy);
+			Model18 fields = new Model18();
+			systemUnderTest.fillIn(fields);
+			Model19 parameters = systemUnderTest.to(Model19.class);
+			assertAll(() -> assertThat(fields.getNotFoundIntegerPrimitive(), is(8080)),
+					() -> assertThat(fields.getNotFoundBooleanPrimitive(), is(true)),
+					() -> assertThat(fields.getNotFoundLongPrimitive(), is(64L)),
+					() -> assertThat(parameters.getNotFoundDoublePrimitive(), is(0D)));
+		}
+	}
+
+	@Test
+	public void toTestInvalidTypeField() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver);
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.to(Model10.class));
+		assertThat(output.getMessage(), is("Field type not supported: class java.util.Date"));
+	}
+
+	@Test
+	public void toTestInvalidTypeMethod() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver);
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.to(Model11.class));
+		assertThat(output.getMessage(), is("Parameter type not supported: class java.util.Date"));
+	}
+
+	@Test
+	public void toTestInvalidTypeParameters() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver);
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.to(Model12.class));
+		assertThat(output.getMessage(), is("Parameter type not supported: class java.util.Date"));
+	}
+
+	@Test
+	public void toTestTooManyConstructors() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver);
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.to(Model13.class));
+		assertThat(output.getMessage(), is("Too many constructors: 2"));
+	}
+
+	@Test
+	public void toTestParameterArgNotAnnotated() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver);
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.to(Model14.class));
+		assertThat(output.getMessage(), is("Parameter not annotated: arg1"));
+	}
+
+	@Test
+	public void toTestNoSetterArgs() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver);
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.to(Model15.class));
+		assertThat(output.getMessage(), is("No arguments: setStr"));
+	}
+
+	@Test
+	public void toTestTooManySetterArgs() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver);
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.to(Model16.class));
+		assertThat(output.getMessage(), is("Too many arguments: setStr: 2"));
+	}
+
+	@Test
+	public void testFromProperties() {
+		Properties props = new Properties();
+		props.put("test.found.string", "hello world");
+		PropertyInjector systemUnderTest = PropertyInjector.fromProperties(props);
+		Model17 output = systemUnderTest.to(Model17.class);
+		assertThat(output.getStr(), is("hello world"));
+	}
+
+	@Test
+	public void fillInAllTest() {
+		Map<String, Integer> lookups = new HashMap<>();
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector((key, value) -> lookups.merge(key, 1, Integer::sum))
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver);
+		List<Object> models = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			models.add(new Model1());
+			models.add(new Model2());
+		}
+		systemUnderTest.fillInAll(models);
+		for (Object model : models) {
+			if (model instanceof Model1) {
+				validate((Model1) model);
+			} else {
+				validate((Model2) model);
+			}
+		}
+		assertThat(lookups.get("test.found.string"), is(1));
+	}
+
+	@Test
+	public void toCountTest() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver);
+		List<Model3> output = systemUnderTest.to(Model3.class, 5);
+		assertThat(output.size(), is(5));
+		assertThat(output.get(0), not(sameInstance(output.get(1))));
+		output.forEach(this::validate);
+	}
+
+	@Test
+	public void toAllTest() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver);
+		List<Object> output = systemUnderTest.toAll(Arrays.asList(Model1.class, Model3.class, Model1.class));
+		assertThat(output.size(), is(3));
+		validate((Model1) output.get(0));
+		validate((Model3) output.get(1));
+		validate((Model1) output.get(2));
+	}
+
+	@Test
+	public void toAllTest_missingParameters() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomInspector(customLoggingInspector)
+				.useCustomPropertyNotFoundHandler(customLoggingPropertyNotFoundHandler)
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver);
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.toAll(Arrays.asList(Model1.class, Model6.class)));
+		assertThat(output.getMessage(), is("Property not found: 'test.not_found.string'"));
+	}
+
+	@Test
+	public void fillInAllTest_parallel() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver).parallel(pool);
+			List<Object> models = new ArrayList<>();
+			for (int i = 0; i < 500; i++) {
+				models.add(new Model1());
+				models.add(new Model2());
+			}
+			systemUnderTest.fillInAll(models);
+			for (Object model : models) {
+				if (model instanceof Model1) {
+					validate((Model1) model);
+				} else {
+					validate((Model2) model);
+				}
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void toCountTest_parallel() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver).parallel(pool);
+			List<Model3> output = systemUnderTest.to(Model3.class, 1000);
+			assertThat(output.size(), is(1000));
+			output.forEach(this::validate);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void toAllTest_parallelFirstFailureInInputOrder() {
+		PropertyResolver resolver = PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties")
+				.useCustomTransformer(customToUpperCaseTransformer).build();
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver).parallel(pool);
+			List<Class<?>> types = new ArrayList<>();
+			for (int i = 0; i < 200; i++) {
+				types.add(i == 150 ? Model6.class : i == 120 ? Model10.class : Model1.class);
+			}
+			for (int i = 0; i < 20; i++) {
+				PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+						() -> systemUnderTest.toAll(types));
+				assertThat(output.getMessage(), is("Field type not supported: class java.util.Date"));
+			}
+			Collections.swap(types, 120, 150);
+			PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+					() -> systemUnderTest.toAll(types));
+			assertThat(output.getMessage(), is("Property not found: 'test.not_found.string'"));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testFromPropertySource() {
+		Map<String, String> props = new HashMap<>();
+		props.put("test.found.string", "hello world");
+		PropertyInjector systemUnderTest = PropertyInjector
+				.fromPropertySource(name -> Optional.ofNullable(props.get(name)));
+		Model17 output = systemUnderTest.to(Model17.class);
+		assertThat(output.getStr(), is("hello world"));
+	}
+
+	@Test
+	public void toTest_prefixed() {
+		for (AccessStrategy strategy : AccessStrategy.values()) {
+			PropertyInjector systemUnderTest = PropertyInjector
+					.fromPropertyResolver(
+							PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties").build())
+					.withAccessStrategy(strategy);
+			Model21 output = systemUnderTest.to(Model21.class);
+			assertAll(() -> assertThat(output.getFoundString(), is("hello world")),
+					() -> assertThat(output.getNested().getFoundIntegerPrimitive(), is(32)),
+					() -> assertThat(output.getNested().getFound().getFoundLong(), is(64L)),
+					() -> assertThat(output.getNested().getFound().getFoundBooleanPrimitive(), is(true)));
+		}
+	}
+
+	@Test
+	public void toTest_unrelatedInjectorClassNotInitialized() {
+		Properties props = new Properties();
+		props.put("test.found.string", "hello world");
+		Model39 output = PropertyInjector.fromProperties(props).to(Model39.class);
+		assertAll(() -> assertThat(output.getFoundString(), is("hello world")),
+				() -> assertThat(Model39.isInjectorInitialized(), is(false)));
+	}
+
+	@Test
+	public void toTest_prefixedMissingProperty() {
+		Properties props = new Properties();
+		props.put("test.found.string", "hello world");
+		props.put("test.found.long", "64");
+		for (AccessStrategy strategy : AccessStrategy.values()) {
+			PropertyInjector systemUnderTest = PropertyInjector.fromProperties(props).withAccessStrategy(strategy);
+			PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+					() -> systemUnderTest.to(Model21.class));
+			assertThat(output.getMessage(), is("Property not found: 'test.found.int'"));
+		}
+	}
+
+	@Test
+	public void toTest_prefixedCycle() {
+		for (AccessStrategy strategy : AccessStrategy.values()) {
+			PropertyInjector systemUnderTest = PropertyInjector.fromProperties(new Properties())
+					.withAccessStrategy(strategy);
+			PropertyInjectorException to = assertThrows(PropertyInjectorException.class,
+					() -> systemUnderTest.to(Model38.class));
+			PropertyInjectorException prepare = assertThrows(PropertyInjectorException.class,
+					() -> systemUnderTest.prepare(Model38.class));
+			String message = "Prefixed field cycle: " + Model38.class.getName() + " -> " + Model38.class.getName();
+			assertAll(() -> assertThat(to.getMessage(), is(message)),
+					() -> assertThat(prepare.getMessage(), is(message)));
+		}
+	}
+
+	@Test
+	public void fillInTest_prefixedKeepsExistingInstance() {
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(
+				PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties").build());
+		Model21 model = new Model21();
+		systemUnderTest.fillIn(model);
+		Model22 nested = model.getNested();
+		systemUnderTest.fillIn(model);
+		assertAll(() -> assertThat(model.getNested(), sameInstance(nested)),
+				() -> assertThat(model.getNested().getFound().getFoundLong(), is(64L)));
+	}
+
+	@Test
+	public void toTestInvalidPrefixedType() {
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(
+				PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties").build());
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.to(Model24.class));
+		assertThat(output.getMessage(), is("Prefixed field type not supported: class java.lang.String"));
+	}
+
+	@Test
+	public void toTest_collections() {
+		Properties props = new Properties();
+		props.put("test.strings", " a, b ,c ");
+		props.put("test.set", "a,b,a");
+		props.put("test.integers", "1,-2,3");
+		props.put("test.ints[0]", "4");
+		props.put("test.ints[1]", " 5 ");
+		props.put("test.longs", "");
+		for (AccessStrategy strategy : AccessStrategy.values()) {
+			Model25 output = PropertyInjector.fromProperties(props).withAccessStrategy(strategy).to(Model25.class);
+			assertAll(() -> assertThat(output.getStrings(), is(Arrays.asList("a", "b", "c"))),
+					() -> assertThat(output.getSet(), is(new LinkedHashSet<>(Arrays.asList("a", "b")))),
+					() -> assertThat(output.getIntegers(), is(Arrays.asList(1, -2, 3))),
+					() -> assertThat(output.getInts(), is(new int[] { 4, 5 })),
+					() -> assertThat(output.getNotFoundLongs(), nullValue()),
+					() -> assertThat(output.getLongs(), is(new long[0])));
+		}
+	}
+
+	@Test
+	public void toTest_collectionsMissing() {
+		Properties props = new Properties();
+		props.put("test.strings", "a");
+		PropertyInjector systemUnderTest = PropertyInjector.fromProperties(props);
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.to(Model25.class));
+		assertThat(output.getMessage(), is("Property not found: 'test.set'"));
+	}
+
+	@Test
+	public void toTestInvalidCollectionType() {
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(
+				PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties").build());
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.to(Model26.class));
+		assertThat(output.getMessage(), is("Field type not supported: interface java.util.List"));
+	}
+
+	@Test
+	public void toTest_converters() {
+		Properties props = new Properties();
+		props.put("test.timeout", "PT30S");
+		props.put("test.address", "localhost:8080");
+		props.put("test.uri", "http://example.com/path");
+		for (AccessStrategy strategy : AccessStrategy.values()) {
+			PropertyInjector systemUnderTest = PropertyInjector.fromProperties(props)
+					.withConverter(Duration.class, Duration::parse).withConverter(URI.class, URI::create)
+					.withAccessStrategy(strategy);
+			Model27 output = systemUnderTest.to(Model27.class);
+			assertAll(() -> assertThat(output.getTimeout(), is(Duration.ofSeconds(30))),
+					() -> assertThat(output.getAddress().getHost(), is("localhost")),
+					() -> assertThat(output.getAddress().getPort(), is(8080)),
+					() -> assertThat(output.getNotFoundTimeout(), nullValue()),
+					() -> assertThat(output.getUri(), is(URI.create("http://example.com/path"))));
+		}
+	}
+
+	@Test
+	public void toTest_converterNotRegistered() {
+		Properties props = new Properties();
+		props.put("test.timeout", "PT30S");
+		props.put("test.address", "localhost:8080");
+		PropertyInjector systemUnderTest = PropertyInjector.fromProperties(props);
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.to(Model27.class));
+		assertThat(output.getMessage(), is("Parameter type not supported: class java.net.URI"));
+	}
+
+	@Test
+	public void toTest_builtInConverters() {
+		Properties props = new Properties();
+		props.put("test.timeout", "1m 30s");
+		props.put("test.buffer", "64MiB");
+		props.put("test.mode", "read-only");
+		props.put("test.unit", "MILLISECONDS");
+		for (AccessStrategy strategy : AccessStrategy.values()) {
+			Model37 output = PropertyInjector.fromProperties(props).withAccessStrategy(strategy).to(Model37.class);
+			assertAll(() -> assertThat(output.getTimeout(), is(Duration.ofSeconds(90))),
+					() -> assertThat(output.getBuffer(), is(DataSize.ofBytes(64L << 20))),
+					() -> assertThat(output.getMode(), is(Model37.Mode.READ_ONLY)),
+					() -> assertThat(output.getUnit(), is(TimeUnit.MILLISECONDS)));
+		}
+		props.put("test.mode", "passive");
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> PropertyInjector.fromProperties(props).to(Model37.class));
+		assertThat(output.getMessage(), is("Invalid Mode: 'passive'"));
+	}
+
+	@Test
+	public void withConverterTest_builtInType() {
+		PropertyInjector systemUnderTest = PropertyInjector.fromProperties(new Properties());
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.withConverter(Integer.class, Integer::valueOf));
+		assertThat(output.getMessage(), is("Built-in type cannot be converted: class java.lang.Integer"));
+	}
+
+	@Test
+	public void testFromSnapshot() {
+		Properties props = new Properties();
+		props.put("test.found.string", "hello world");
+		props.put("test.found.boolean", "true");
+		props.put("test.found.int", "32");
+		props.put("test.found.long", "64");
+		props.put("test.found.double", "2.2");
+		props.put("test.found.float", "1.1");
+		PropertyInjector systemUnderTest = PropertyInjector.fromSnapshot(PropertySnapshot.of(props));
+		Model1 output = systemUnderTest.to(Model1.class);
+		assertAll(() -> assertThat(output.getFoundString(), is("hello world")),
+				() -> assertThat(output.getFoundIntegerPrimitive(), is(32)),
+				() -> assertThat(output.getFoundLong(), is(64L)),
+				() -> assertThat(output.getFoundDoublePrimitive(), is(2.2)),
+				() -> assertThat(output.getFoundFloat(), is(1.1F)),
+				() -> assertThat(output.getFoundBooleanPrimitive(), is(true)));
+	}
+
+	@Test
+	public void toTest_lazy() {
+		Map<String, String> props = new HashMap<>();
+		props.put("test.found.string", "hello world");
+		props.put("test.found.int", "32");
+		props.put("test.found.long", "64");
+		props.put("test.integers", "1, 2");
+		for (AccessStrategy strategy : AccessStrategy.values()) {
+			List<String> reads = new ArrayList<>();
+			PropertyInjector systemUnderTest = PropertyInjector.fromPropertySource(name -> {
+				reads.add(name);
+				return Optional.ofNullable(props.get(name));
+			}).withAccessStrategy(strategy);
+			Model29 output = systemUnderTest.to(Model29.class);
+			assertThat(reads, is(Collections.emptyList()));
+			assertAll(() -> assertThat(output.getFoundString().get(), is("hello world")),
+					() -> assertThat(output.getFoundString().get(), is("hello world")),
+					() -> assertThat(output.getFoundInteger().get(), is(32)),
+					() -> assertThat(output.getFoundLong().get(), is(64L)),
+					() -> assertThat(output.getIntegers().get(), is(Arrays.asList(1, 2))),
+					() -> assertThat(output.getOptionalInteger().get(), nullValue()));
+			assertThat(reads, is(Arrays.asList("test.found.string", "test.found.int", "test.found.long",
+					"test.integers", "test.not_found.int")));
+			PropertyInjectorException error = assertThrows(PropertyInjectorException.class,
+					() -> output.getNotFoundString().get());
+			assertThat(error.getMessage(), is("Property not found: 'test.not_found.string'"));
+		}
+	}
+
+	@Test
+	public void toTestInvalidLazyType() {
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(
+				PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties").build());
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.to(Model30.class));
+		assertThat(output.getMessage(), is("Field type not supported: interface java.util.function.Supplier"));
+	}
+
+	@Test
+	public void toTest_hierarchy() {
+		PropertyResolver resolver = PropertyResolver.registerProviders()
+				.addClasspathPropertiesFile("test.properties").build();
+		for (AccessStrategy strategy : AccessStrategy.values()) {
+			PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(resolver)
+					.withAccessStrategy(strategy);
+			Model35 output = systemUnderTest.to(Model35.class);
+			Model35 filledIn = new Model35();
+			systemUnderTest.fillIn(filledIn);
+			for (Model35 model : Arrays.asList(output, filledIn)) {
+				assertAll(() -> assertThat(model.getFoundString(), is("hello world")),
+						() -> assertThat(model.getShadowingString(), is("true")),
+						() -> assertThat(model.getFoundInteger(), is(32)),
+						() -> assertThat(model.isOverridden(), is(true)),
+						() -> assertThat(model.getFoundDouble(), is(1.1)),
+						() -> assertThat(model.getFoundLong(), is(64L)),
+						() -> assertThat(model.getFoundFloat(), is(1.1F)));
+			}
+		}
+	}
+
+	@Test
+	public void toTest_hierarchySameAsFlat() {
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(
+				PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties").build());
+		Model35 output = systemUnderTest.to(Model35.class);
+		Model36 expected = systemUnderTest.to(Model36.class);
+		assertAll(() -> assertThat(output.getFoundString(), is(expected.getFoundString())),
+				() -> assertThat(output.getShadowingString(), is(expected.getShadowingString())),
+				() -> assertThat(output.getFoundInteger(), is(expected.getFoundInteger())),
+				() -> assertThat(output.getFoundDouble(), is(expected.getFoundDouble())),
+				() -> assertThat(output.getFoundLong(), is(expected.getFoundLong())),
+				() -> assertThat(output.getFoundFloat(), is(expected.getFoundFloat())));
+	}
+
+	@Test
+	public void toTest_cached() throws Exception {
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(
+				PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties").build()).cached();
+		Model1 output = systemUnderTest.to(Model1.class);
+		Properties changed = new Properties();
+		changed.load(getClass().getClassLoader().getResourceAsStream("test.properties"));
+		changed.put("test.found.string", "changed");
+		PropertyInjector next = systemUnderTest.withSource(PropertySnapshot.of(changed));
+		assertAll(() -> assertThat(systemUnderTest.to(Model1.class), sameInstance(output)),
+				() -> assertThat(systemUnderTest.withAccessStrategy(AccessStrategy.COMPILED).to(Model1.class),
+						sameInstance(output)),
+				() -> assertThat(systemUnderTest.cached(), sameInstance(systemUnderTest)),
+				() -> assertThat(systemUnderTest.to(Model2.class).getFoundString(), is("hello world")),
+				() -> assertThat(systemUnderTest.to(Model1.class, 2).contains(output), is(false)),
+				() -> assertThat(systemUnderTest.withConverter(StringBuilder.class, StringBuilder::new)
+						.to(Model1.class), not(sameInstance(output))),
+				() -> assertThat(next.to(Model1.class).getFoundString(), is("changed")),
+				() -> assertThat(next.to(Model1.class), sameInstance(next.to(Model1.class))));
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Model3>> futures = new ArrayList<>();
+			for (int i = 0; i < 64; i++) {
+				futures.add(executor.submit(() -> systemUnderTest.to(Model3.class)));
+			}
+			Model3 canonical = futures.get(0).get();
+			for (Future<Model3> future : futures) {
+				assertThat(future.get(), sameInstance(canonical));
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void toTest_interning() {
+		Map<String, String> props = new HashMap<>();
+		props.put("test.found.string", "hello world");
+		props.put("test.found.int", "32");
+		PropertySource copying = name -> Optional.ofNullable(props.get(name)).map(String::new);
+		Model28 first = PropertyInjector.fromPropertySource(copying).to(Model28.class);
+		Model28 second = PropertyInjector.fromPropertySource(copying).to(Model28.class);
+		assertThat(first.getFoundString(), not(sameInstance(second.getFoundString())));
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertySource(copying).interning();
+		Model28 output = systemUnderTest.to(Model28.class);
+		assertAll(() -> assertThat(output.getFoundString(), is("hello world")),
+				() -> assertThat(systemUnderTest.to(Model28.class).getFoundString(),
+						sameInstance(output.getFoundString())),
+				() -> assertThat(systemUnderTest.withSource(copying).to(Model28.class).getFoundString(),
+						sameInstance(output.getFoundString())),
+				() -> assertThat(systemUnderTest.interning(16).to(Model28.class).getFoundString(),
+						not(sameInstance(output.getFoundString()))));
+	}
+
+	@Test
+	public void fillInChangedTest() {
+		Map<String, String> props = new HashMap<>();
+		for (AccessStrategy strategy : AccessStrategy.values()) {
+			props.put("test.found.string", "hello world");
+			props.put("test.found.int", "32");
+			PropertyInjector systemUnderTest = PropertyInjector
+					.fromPropertySource(name -> Optional.ofNullable(props.get(name))).withAccessStrategy(strategy);
+			Model28 output = new Model28();
+			assertThat(systemUnderTest.fillInChanged(output),
+					is(new LinkedHashSet<>(Arrays.asList("test.found.string", "test.found.int"))));
+			assertThat(systemUnderTest.fillInChanged(output), is(Collections.emptySet()));
+			props.put("test.found.int", "64");
+			assertThat(systemUnderTest.fillInChanged(output), is(Collections.singleton("test.found.int")));
+			props.put("test.found.string", "changed");
+			assertThat(systemUnderTest.fillInChanged(output), is(Collections.singleton("test.found.string")));
+			assertAll(() -> assertThat(output.getFoundString(), is("changed")),
+					() -> assertThat(output.getFoundIntegerPrimitive(), is(64)),
+					() -> assertThat(output.getSetterCalls(), is(2)));
+			Model28 other = new Model28();
+			assertThat(systemUnderTest.fillInChanged(other).size(), is(2));
+			assertThat(other.getSetterCalls(), is(1));
+		}
+	}
+
+	@Test
+	public void fillInChangedTest_nestedGenerated() {
+		Map<String, String> props = new HashMap<>();
+		props.put("test.found.string", "hello world");
+		props.put("test.found.int", "32");
+		PropertyInjector systemUnderTest = PropertyInjector
+				.fromPropertySource(name -> Optional.ofNullable(props.get(name)));
+		Model41 output = new Model41();
+		int created = Model40Injector.CREATED.get();
+		assertThat(systemUnderTest.fillInChanged(output),
+				is(new LinkedHashSet<>(Arrays.asList("test.found.string", "test.found.int"))));
+		assertAll(() -> assertThat(Model40Injector.CREATED.get(), is(created + 1)),
+				() -> assertThat(output.getNested().getFoundIntegerPrimitive(), is(32)),
+				() -> assertThat(systemUnderTest.fillInChanged(output), is(Collections.emptySet())));
+	}
+
+	@Test
+	public void fillInChangedTest_nested() {
+		Map<String, String> props = new HashMap<>();
+		props.put("test.found.string", "hello world");
+		props.put("test.found.int", "32");
+		props.put("test.found.long", "64");
+		props.put("test.found.boolean", "true");
+		PropertyInjector systemUnderTest = PropertyInjector
+				.fromPropertySource(name -> Optional.ofNullable(props.get(name)));
+		Model21 output = new Model21();
+		assertThat(systemUnderTest.fillInChanged(output).size(), is(4));
+		Model22 nested = output.getNested();
+		props.put("test.found.long", "128");
+		assertThat(systemUnderTest.fillInChanged(output), is(Collections.singleton("test.found.long")));
+		assertAll(() -> assertThat(output.getNested(), sameInstance(nested)),
+				() -> assertThat(output.getNested().getFound().getFoundLong(), is(128L)));
+	}
+
+	@Test
+	public void prepareTest() {
+		Properties props = new Properties();
+		props.put("test.found.string", "hello world");
+		props.put("test.found.boolean", "true");
+		props.put("test.found.int", "32");
+		props.put("test.found.long", "64");
+		props.put("test.found.double", "2.2");
+		props.put("test.found.float", "1.1");
+		props.put("test.strings", "a");
+		props.put("test.set", "");
+		props.put("test.integers", "1");
+		props.put("test.ints[0]", "4");
+		props.put("test.longs", "1");
+		for (AccessStrategy strategy : AccessStrategy.values()) {
+			PropertyInjector systemUnderTest = PropertyInjector.fromProperties(props).withAccessStrategy(strategy);
+			systemUnderTest.prepare(Model1.class, Model2.class, Model3.class, Model21.class, Model25.class);
+			assertThat(systemUnderTest.to(Model21.class).getNested().getFound().getFoundLong(), is(64L));
+		}
+	}
+
+	@Test
+	public void prepareTest_missingProperties() {
+		Properties props = new Properties();
+		props.put("test.found.string", "hello world");
+		props.put("test.strings", "a");
+		props.put("test.ints[0]", "4");
+		PropertyInjector systemUnderTest = PropertyInjector.fromProperties(props);
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> systemUnderTest.prepare(Model1.class, Model21.class, Model25.class));
+		List<String> messages = new ArrayList<>();
+		messages.add(output.getMessage());
+		for (Throwable suppressed : output.getSuppressed()) {
+			messages.add(suppressed.getMessage());
+		}
+		assertThat(new LinkedHashSet<>(messages),
+				is(new LinkedHashSet<>(Arrays.asList("Property not found: 'test.found.int'",
+						"Property not found: 'test.found.long'", "Property not found: 'test.found.double'",
+						"Property not found: 'test.found.float'", "Property not found: 'test.found.boolean'",
+						"Property not found: 'test.set'", "Property not found: 'test.integers'",
+						"Property not found: 'test.longs'"))));
+		assertThat(messages.size(), is(11));
+	}
+
+	@Test
+	public void prepareAllTest_invalidClassesInInputOrder() {
+		PropertyInjector systemUnderTest = PropertyInjector.fromPropertyResolver(
+				PropertyResolver.registerProviders().addClasspathPropertiesFile("test.properties").build());
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+					() -> systemUnderTest.parallel(pool)
+							.prepareAll(Arrays.asList(Model1.class, Model15.class, Model2.class, Model13.class)));
+			assertAll(() -> assertThat(output.getMessage(), is("No arguments: setStr")),
+					() -> assertThat(output.getSuppressed().length, is(1)),
+					() -> assertThat(output.getSuppressed()[0].getMessage(), is("Too many constructors: 2")));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	private void validate(Model1 model) {
+		assertAll(() -> assertThat(model.getFoundString(), is("HELLO WORLD")),
+				() -> assertThat(model.getFoundInteger(), is(32)),
+				() -> assertThat(model.getFoundIntegerPrimitive(), is(32)),
+				() -> assertThat(model.getFoundLong(), is(64L)),
+				() -> assertThat(model.getFoundLongPrimitive(), is(64L)),
+				() -> assertThat(model.getFoundDouble(), is(2.2)),
+				() -> assertThat(model.getFoundDoublePrimitive(), is(2.2)),
+				() -> assertThat(model.getFoundFloat(), is(1.1F)),
+				() -> assertThat(model.getFoundFloatPrimitive(), is(1.1F)),
+				() -> assertThat(model.getFoundBoolean(), is(true)),
+				() -> assertThat(model.getFoundBooleanPrimitive(), is(true)));
+	}
+
+	private void validate(Model2 model) {
+		assertAll(() -> assertThat(model.getFoundString(), is("HELLO WORLD")),
+				() -> assertThat(model.getFoundInteger(), is(32)),
+				() -> assertThat(model.getFoundIntegerPrimitive(), is(32)),
+				() -> assertThat(model.getFoundLong(), is(64L)),
+				() -> assertThat(model.getFoundLongPrimitive(), is(64L)),
+				() -> assertThat(model.getFoundDouble(), is(2.2)),
+				() -> assertThat(model.getFoundDoublePrimitive(), is(2.2)),
+				() -> assertThat(model.getFoundFloat(), is(1.1F)),
+				() -> assertThat(model.getFoundFloatPrimitive(), is(1.1F)),
+				() -> assertThat(model.getFoundBoolean(), is(true)),
+				() -> assertThat(model.getFoundBooleanPrimitive(), is(true)));
+	}
+
+	private void validate(Model3 model) {
+		assertAll(() -> assertThat(model.getFoundString(), is("HELLO WORLD")),
+				() -> assertThat(model.getFoundInteger(), is(32)),
+				() -> assertThat(model.getFoundIntegerPrimitive(), is(32)),
+				() -> assertThat(model.getFoundLong(), is(64L)),
+				() -> assertThat(model.getFoundLongPrimitive(), is(64L)),
+				() -> assertThat(model.getFoundDouble(), is(2.2)),
+				() -> assertThat(model.getFoundDoublePrimitive(), is(2.2)),
+				() -> assertThat(model.getFoundFloat(), is(1.1F)),
+				() -> assertThat(model.getFoundFloatPrimitive(), is(1.1F)),
+				() -> assertThat(model.getFoundBoolean(), is(true)),
+				() -> assertThat(model.getFoundBooleanPrimitive(), is(true)));
+	}
+}
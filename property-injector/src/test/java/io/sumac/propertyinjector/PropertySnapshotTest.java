@@ -0,0 +1,88 @@
+package io.sumac.propertyinjector;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PropertySnapshotTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void testGetString() {
+		Map<String, String> values = new HashMap<>();
+		for (int i = 0; i < 1000; i++) {
+			values.put("key." + i, "value." + i);
+		}
+		PropertySnapshot systemUnderTest = PropertySnapshot.of(values);
+		assertThat(systemUnderTest.size(), is(1000));
+		for (int i = 0; i < 1000; i++) {
+			assertThat(systemUnderTest.getString("key." + i), is(Optional.of("value." + i)));
+		}
+		assertThat(systemUnderTest.getString("key.1000"), is(Optional.empty()));
+		assertThat(systemUnderTest.getString("key.1"), sameInstance(systemUnderTest.getString("key.1")));
+		assertThat(systemUnderTest.toMap(), is(values));
+	}
+
+	@Test
+	public void testEmpty() {
+		PropertySnapshot systemUnderTest = PropertySnapshot.of(Collections.emptyMap());
+		assertThat(systemUnderTest.size(), is(0));
+		assertThat(systemUnderTest.getString("test.found.string"), is(Optional.empty()));
+	}
+
+	@Test
+	public void testCollidingKeys() {
+		// "Aa" and "BB" have the same hash code
+		Map<String, String> values = new HashMap<>();
+		values.put("Aa", "1");
+		values.put("BB", "2");
+		PropertySnapshot systemUnderTest = PropertySnapshot.of(values);
+		assertThat(systemUnderTest.getString("Aa"), is(Optional.of("1")));
+		assertThat(systemUnderTest.getString("BB"), is(Optional.of("2")));
+		assertThat(systemUnderTest.getString("C#"), is(Optional.empty()));
+	}
+
+	@Test
+	public void testOfPropertiesIncludesDefaults() {
+		Properties defaults = new Properties();
+		defaults.put("test.found.string", "hello world");
+		defaults.put("test.found.int", "32");
+		Properties props = new Properties(defaults);
+		props.put("test.found.int", "64");
+		PropertySnapshot systemUnderTest = PropertySnapshot.of(props);
+		props.put("test.found.int", "128");
+		assertThat(systemUnderTest.getString("test.found.string"), is(Optional.of("hello world")));
+		assertThat(systemUnderTest.getInt("test.found.int"), is(Optional.of(64)));
+	}
+
+	@Test
+	public void testLoad() throws IOException {
+		Path base = Files.write(directory.resolve("base.properties"),
+				Arrays.asList("test.found.string=hello world", "test.found.int=32"), StandardCharsets.ISO_8859_1);
+		Path override = Files.write(directory.resolve("override.properties"), Arrays.asList("test.found.int=64"),
+				StandardCharsets.ISO_8859_1);
+		PropertySnapshot systemUnderTest = PropertySnapshot.load(base, override);
+		assertThat(systemUnderTest.getString("test.found.string"), is(Optional.of("hello world")));
+		assertThat(systemUnderTest.getString("test.found.int"), is(Optional.of("64")));
+		PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+				() -> PropertySnapshot.load(directory.resolve("missing.properties")));
+		assertThat(output.getMessage(), is("Could not read " + directory.resolve("missing.properties")));
+	}
+}
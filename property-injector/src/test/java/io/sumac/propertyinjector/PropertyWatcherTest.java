@@ -0,0 +1,177 @@
+package io.sumac.propertyinjector;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.sumac.propertyinjector.sample.Model21;
+import io.sumac.propertyinjector.sample.Model22;
+import io.sumac.propertyinjector.sample.Model28;
+
+public class PropertyWatcherTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void testReloadInjectsChangedKeysOnly() throws IOException {
+		Path file = write("test.properties", "test.found.string=hello world", "test.found.int=32");
+		try (PropertyWatcher systemUnderTest = PropertyInjector.fromProperties(System.getProperties()).watch(file)) {
+			Model28 model = systemUnderTest.register(new Model28());
+			model.setFoundString("changed locally");
+			write("test.properties", "test.found.string=hello world", "test.found.int=64");
+			assertThat(systemUnderTest.reload(), is(Collections.singleton("test.found.int")));
+			assertAll(() -> assertThat(model.getFoundString(), is("changed locally")),
+					() -> assertThat(model.getFoundIntegerPrimitive(), is(64)),
+					() -> assertThat(model.getSetterCalls(), is(2)));
+			assertThat(systemUnderTest.reload(), is(Collections.emptySet()));
+			assertThat(model.getSetterCalls(), is(2));
+		}
+	}
+
+	@Test
+	public void testReloadNested() throws IOException {
+		Path file = write("test.properties", "test.found.string=hello world", "test.found.int=32",
+				"test.found.long=64", "test.found.boolean=true");
+		try (PropertyWatcher systemUnderTest = PropertyInjector.fromProperties(System.getProperties()).watch(file)) {
+			Model21 model = systemUnderTest.register(new Model21());
+			Model22 nested = model.getNested();
+			write("test.properties", "test.found.string=hello world", "test.found.int=32", "test.found.long=128",
+					"test.found.boolean=true");
+			systemUnderTest.reload();
+			assertAll(() -> assertThat(model.getNested(), sameInstance(nested)),
+					() -> assertThat(model.getNested().getFound().getFoundLong(), is(128L)));
+		}
+	}
+
+	@Test
+	public void testReloadLaterFilesOverride() throws IOException {
+		Path base = write("base.properties", "test.found.string=hello world", "test.found.int=32");
+		Path override = write("override.properties", "test.found.int=64");
+		try (PropertyWatcher systemUnderTest = PropertyInjector.fromProperties(System.getProperties()).watch(base,
+				override)) {
+			Model28 model = systemUnderTest.register(new Model28());
+			assertThat(model.getFoundIntegerPrimitive(), is(64));
+			write("override.properties", "");
+			assertThat(systemUnderTest.reload(), is(Collections.singleton("test.found.int")));
+			assertThat(model.getFoundIntegerPrimitive(), is(32));
+		}
+	}
+
+	@Test
+	public void testCachedRebuiltOnChange() throws IOException {
+		Path file = write("test.properties", "test.found.string=hello world", "test.found.int=32");
+		try (PropertyWatcher systemUnderTest = PropertyInjector.fromProperties(System.getProperties()).cached()
+				.watch(file)) {
+			Model28 first = systemUnderTest.getInjector().to(Model28.class);
+			assertThat(systemUnderTest.getInjector().to(Model28.class), sameInstance(first));
+			systemUnderTest.reload();
+			assertThat(systemUnderTest.getInjector().to(Model28.class), sameInstance(first));
+			write("test.properties", "test.found.string=hello world", "test.found.int=64");
+			systemUnderTest.reload();
+			Model28 second = systemUnderTest.getInjector().to(Model28.class);
+			assertAll(() -> assertThat(second == first, is(false)),
+					() -> assertThat(second.getFoundIntegerPrimitive(), is(64)),
+					() -> assertThat(first.getFoundIntegerPrimitive(), is(32)),
+					() -> assertThat(systemUnderTest.getInjector().to(Model28.class), sameInstance(second)));
+		}
+	}
+
+	@Test
+	public void testValueCacheClearedOnReload() throws IOException {
+		Path file = write("test.properties", "test.found.string=hello world", "test.found.int=32");
+		try (PropertyWatcher systemUnderTest = PropertyInjector.fromProperties(System.getProperties())
+				.withValueCache(100).watch(file)) {
+			Model28 model = systemUnderTest.register(new Model28());
+			assertThat(systemUnderTest.getInjector().to(Model28.class).getFoundIntegerPrimitive(), is(32));
+			write("test.properties", "test.found.string=hello world", "test.found.int=64");
+			systemUnderTest.reload();
+			assertAll(() -> assertThat(model.getFoundIntegerPrimitive(), is(64)),
+					() -> assertThat(systemUnderTest.getInjector().to(Model28.class).getFoundIntegerPrimitive(),
+							is(64)));
+		}
+	}
+
+	@Test
+	public void testReloadMissingProperty() throws IOException {
+		Path file = write("test.properties", "test.found.string=hello world", "test.found.int=32");
+		try (PropertyWatcher systemUnderTest = PropertyInjector.fromProperties(System.getProperties()).watch(file)) {
+			systemUnderTest.register(new Model28());
+			write("test.properties", "test.found.int=32");
+			PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+					() -> systemUnderTest.reload());
+			assertThat(output.getMessage(), is("Property not found: 'test.found.string'"));
+		}
+	}
+
+	@Test
+	public void testReloadRetriesFailedInstances() throws IOException {
+		Path file = write("test.properties", "test.found.string=hello world", "test.found.int=32");
+		try (PropertyWatcher systemUnderTest = PropertyInjector.fromProperties(System.getProperties()).watch(file)) {
+			Model28 model = systemUnderTest.register(new Model28());
+			write("test.properties", "test.found.int=64");
+			assertThrows(PropertyInjectorException.class, () -> systemUnderTest.reload());
+			assertThrows(PropertyInjectorException.class, () -> systemUnderTest.reload());
+			write("test.properties", "test.found.string=changed", "test.found.int=64");
+			assertThat(systemUnderTest.reload(), is(Collections.singleton("test.found.string")));
+			assertAll(() -> assertThat(model.getFoundString(), is("changed")),
+					() -> assertThat(model.getFoundIntegerPrimitive(), is(64)));
+			assertThat(systemUnderTest.reload(), is(Collections.emptySet()));
+		}
+	}
+
+	@Test
+	public void testWatch() throws IOException, InterruptedException {
+		Path file = write("test.properties", "test.found.string=hello world", "test.found.int=32");
+		BlockingQueue<RuntimeException> errors = new ArrayBlockingQueue<>(1);
+		try (PropertyWatcher systemUnderTest = PropertyInjector.fromProperties(System.getProperties()).watch(file)
+				.onError(errors::offer)) {
+			Model28 model = systemUnderTest.register(new Model28());
+			write("test.properties", "test.found.string=hello world", "test.found.int=64");
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+			while (model.getFoundIntegerPrimitive() != 64 && System.nanoTime() < deadline) {
+				Thread.sleep(20);
+			}
+			assertThat(model.getFoundIntegerPrimitive(), is(64));
+			write("test.properties", "test.found.int=64");
+			RuntimeException error = errors.poll(10, TimeUnit.SECONDS);
+			assertThat(error.getMessage(), is("Property not found: 'test.found.string'"));
+		}
+	}
+
+	@Test
+	public void testDiff() {
+		Map<String, String> before = new HashMap<>();
+		before.put("same", "1");
+		before.put("changed", "1");
+		before.put("removed", "1");
+		Map<String, String> after = new HashMap<>();
+		after.put("same", "1");
+		after.put("changed", "2");
+		after.put("added", "1");
+		assertThat(PropertyWatcher.diff(before, after),
+				is(new HashSet<>(Arrays.asList("changed", "removed", "added"))));
+	}
+
+	private Path write(String name, String... lines) throws IOException {
+		return Files.write(directory.resolve(name), Arrays.asList(lines), StandardCharsets.ISO_8859_1);
+	}
+}
@@ -0,0 +1,40 @@
+package io.sumac.propertyinjector;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class StringTableTest {
+
+	@Test
+	public void testEqualStringsShareOneCopy() {
+		StringTable systemUnderTest = new StringTable(16);
+		String first = new String("us-east-1");
+		String second = new String("us-east-1");
+		assertThat(systemUnderTest.intern(first), sameInstance(first));
+		assertThat(systemUnderTest.intern(second), sameInstance(first));
+		assertThat(systemUnderTest.intern(new String("eu-west-1")), is("eu-west-1"));
+		assertThat(systemUnderTest.intern(second), sameInstance(first));
+	}
+
+	@Test
+	public void testBounded() {
+		StringTable systemUnderTest = new StringTable(2);
+		String[] values = new String[100];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = "host-" + i;
+			assertThat(systemUnderTest.intern(values[i]), sameInstance(values[i]));
+		}
+		String last = values[values.length - 1];
+		assertThat(systemUnderTest.intern(new String(last)), sameInstance(last));
+	}
+
+	@Test
+	public void testInvalidCapacity() {
+		IllegalArgumentException output = assertThrows(IllegalArgumentException.class, () -> new StringTable(1));
+		assertThat(output.getMessage(), is("Capacity must be at least 2: 1"));
+	}
+}
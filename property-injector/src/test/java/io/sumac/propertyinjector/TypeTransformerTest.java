@@ -3,8 +3,13 @@ package io.sumac.propertyinjector;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import java.lang.reflect.Type;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import io.sumac.propertyinjector.sample.Model25;
+
 public class TypeTransformerTest {
 
 	@Test
@@ -86,4 +91,26 @@ public class TypeTransformerTest {
 		assertThat(TypeTransformer.isBoolean(invalidPrimitive), is(false));
 	}
 
+	@Test
+	public void testIsArray() {
+		assertThat(TypeTransformer.isIntArray(int[].class), is(true));
+		assertThat(TypeTransformer.isIntArray(Integer[].class), is(false));
+		assertThat(TypeTransformer.isLongArray(long[].class), is(true));
+		assertThat(TypeTransformer.isLongArray(int[].class), is(false));
+	}
+
+	@Test
+	public void testIsCollection() throws NoSuchFieldException {
+		Type strings = Model25.class.getDeclaredField("strings").getGenericType();
+		Type set = Model25.class.getDeclaredField("set").getGenericType();
+		Type integers = Model25.class.getDeclaredField("integers").getGenericType();
+		assertThat(TypeTransformer.isStringList(strings), is(true));
+		assertThat(TypeTransformer.isStringList(integers), is(false));
+		assertThat(TypeTransformer.isStringList(List.class), is(false));
+		assertThat(TypeTransformer.isStringSet(set), is(true));
+		assertThat(TypeTransformer.isStringSet(strings), is(false));
+		assertThat(TypeTransformer.isIntList(integers), is(true));
+		assertThat(TypeTransformer.isIntList(strings), is(false));
+	}
+
 }
@@ -0,0 +1,60 @@
+package io.sumac.propertyinjector;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+public class UnitsTest {
+
+	@Test
+	public void testParseDuration() {
+		assertAll(() -> assertThat(Units.parseDuration("250ms"), is(Duration.ofMillis(250))),
+				() -> assertThat(Units.parseDuration("30s"), is(Duration.ofSeconds(30))),
+				() -> assertThat(Units.parseDuration(" 5 m "), is(Duration.ofMinutes(5))),
+				() -> assertThat(Units.parseDuration("1h 30m"), is(Duration.ofMinutes(90))),
+				() -> assertThat(Units.parseDuration("1d2h"), is(Duration.ofHours(26))),
+				() -> assertThat(Units.parseDuration("100us"), is(Duration.ofNanos(100_000))),
+				() -> assertThat(Units.parseDuration("100µs"), is(Duration.ofNanos(100_000))),
+				() -> assertThat(Units.parseDuration("10NS"), is(Duration.ofNanos(10))),
+				() -> assertThat(Units.parseDuration("-5s"), is(Duration.ofSeconds(-5))),
+				() -> assertThat(Units.parseDuration("1500"), is(Duration.ofMillis(1500))),
+				() -> assertThat(Units.parseDuration("PT30S"), is(Duration.ofSeconds(30))),
+				() -> assertThat(Units.parseDuration("-PT1M"), is(Duration.ofMinutes(-1))));
+	}
+
+	@Test
+	public void testParseDurationInvalid() {
+		for (String value : new String[] { "", "ms", "5x", "5 s 3", "1h-30m", "P5", "99999999999999999999s",
+				"200000d" }) {
+			PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+					() -> Units.parseDuration(value));
+			assertThat(output.getMessage(), is("Invalid Duration: '" + value + "'"));
+		}
+	}
+
+	@Test
+	public void testParseBytes() {
+		assertAll(() -> assertThat(Units.parseBytes("512"), is(512L)),
+				() -> assertThat(Units.parseBytes("512B"), is(512L)),
+				() -> assertThat(Units.parseBytes("64KB"), is(64_000L)),
+				() -> assertThat(Units.parseBytes("64kib"), is(65_536L)),
+				() -> assertThat(Units.parseBytes("64MiB"), is(64L << 20)),
+				() -> assertThat(Units.parseBytes(" 2 GB "), is(2_000_000_000L)),
+				() -> assertThat(Units.parseBytes("1TiB"), is(1L << 40)),
+				() -> assertThat(DataSize.parse("8PiB").toBytes(), is(8L << 50)));
+	}
+
+	@Test
+	public void testParseBytesInvalid() {
+		for (String value : new String[] { "", "MB", "64 M", "1.5GB", "64MiB2", "8192PiB" }) {
+			PropertyInjectorException output = assertThrows(PropertyInjectorException.class,
+					() -> Units.parseBytes(value));
+			assertThat(output.getMessage(), is("Invalid DataSize: '" + value + "'"));
+		}
+	}
+}
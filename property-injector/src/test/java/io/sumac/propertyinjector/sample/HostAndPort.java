@@ -0,0 +1,26 @@
+package io.sumac.propertyinjector.sample;
+
+public class HostAndPort {
+
+	private final String host;
+	private final int port;
+
+	public HostAndPort(String host, int port) {
+		this.host = host;
+		this.port = port;
+	}
+
+	public String getHost() {
+		return host;
+	}
+
+	public int getPort() {
+		return port;
+	}
+
+	@Override
+	public String toString() {
+		return host + ":" + port;
+	}
+
+}
@@ -0,0 +1,18 @@
+package io.sumac.propertyinjector.sample;
+
+import io.sumac.propertyinjector.TypeConverter;
+
+public class HostAndPortConverter implements TypeConverter<HostAndPort> {
+
+	@Override
+	public Class<HostAndPort> getType() {
+		return HostAndPort.class;
+	}
+
+	@Override
+	public HostAndPort convert(String value) {
+		int colon = value.lastIndexOf(':');
+		return new HostAndPort(value.substring(0, colon), Integer.parseInt(value.substring(colon + 1)));
+	}
+
+}
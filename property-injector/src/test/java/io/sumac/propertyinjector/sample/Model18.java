@@ -0,0 +1,36 @@
+package io.sumac.propertyinjector.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+public class Model18 {
+
+	@Property(name = "test.not_found.int", optional = true)
+	private int notFoundIntegerPrimitive = 8080;
+	@Property(name = "test.not_found.boolean", optional = true)
+	private boolean notFoundBooleanPrimitive = true;
+	private long notFoundLongPrimitive = 64L;
+
+	public int getNotFoundIntegerPrimitive() {
+		return notFoundIntegerPrimitive;
+	}
+
+	public boolean getNotFoundBooleanPrimitive() {
+		return notFoundBooleanPrimitive;
+	}
+
+	public long getNotFoundLongPrimitive() {
+		return notFoundLongPrimitive;
+	}
+
+	@Property(name = "test.not_found.long", optional = true)
+	public void setNotFoundLongPrimitive(long notFoundLongPrimitive) {
+		this.notFoundLongPrimitive = notFoundLongPrimitive;
+	}
+
+	@Override
+	public String toString() {
+		return "Model18 [notFoundIntegerPrimitive=" + notFoundIntegerPrimitive + ", notFoundBooleanPrimitive="
+				+ notFoundBooleanPrimitive + ", notFoundLongPrimitive=" + notFoundLongPrimitive + "]";
+	}
+
+}
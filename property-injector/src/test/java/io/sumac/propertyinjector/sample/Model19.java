@@ -0,0 +1,30 @@
+package io.sumac.propertyinjector.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+public class Model19 {
+
+	private final int foundIntegerPrimitive;
+	private final double notFoundDoublePrimitive;
+
+	public Model19(@Property(name = "test.found.int") int foundIntegerPrimitive,
+			@Property(name = "test.not_found.double", optional = true) double notFoundDoublePrimitive) {
+		this.foundIntegerPrimitive = foundIntegerPrimitive;
+		this.notFoundDoublePrimitive = notFoundDoublePrimitive;
+	}
+
+	public int getFoundIntegerPrimitive() {
+		return foundIntegerPrimitive;
+	}
+
+	public double getNotFoundDoublePrimitive() {
+		return notFoundDoublePrimitive;
+	}
+
+	@Override
+	public String toString() {
+		return "Model19 [foundIntegerPrimitive=" + foundIntegerPrimitive + ", notFoundDoublePrimitive="
+				+ notFoundDoublePrimitive + "]";
+	}
+
+}
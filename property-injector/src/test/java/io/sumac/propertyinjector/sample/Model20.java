@@ -0,0 +1,45 @@
+package io.sumac.propertyinjector.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+public class Model20 {
+
+	@Property(name = "test.found.int")
+	private int foundIntegerPrimitive;
+	@Property(name = "test.found.long")
+	private long foundLongPrimitive;
+	@Property(name = "test.found.double")
+	private double foundDoublePrimitive;
+	@Property(name = "test.found.float")
+	private float foundFloatPrimitive;
+	@Property(name = "test.found.boolean")
+	private boolean foundBooleanPrimitive;
+
+	public int getFoundIntegerPrimitive() {
+		return foundIntegerPrimitive;
+	}
+
+	public long getFoundLongPrimitive() {
+		return foundLongPrimitive;
+	}
+
+	public double getFoundDoublePrimitive() {
+		return foundDoublePrimitive;
+	}
+
+	public float getFoundFloatPrimitive() {
+		return foundFloatPrimitive;
+	}
+
+	public boolean getFoundBooleanPrimitive() {
+		return foundBooleanPrimitive;
+	}
+
+	@Override
+	public String toString() {
+		return "Model20 [foundIntegerPrimitive=" + foundIntegerPrimitive + ", foundLongPrimitive="
+				+ foundLongPrimitive + ", foundDoublePrimitive=" + foundDoublePrimitive + ", foundFloatPrimitive="
+				+ foundFloatPrimitive + ", foundBooleanPrimitive=" + foundBooleanPrimitive + "]";
+	}
+
+}
@@ -0,0 +1,26 @@
+package io.sumac.propertyinjector.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+import io.sumac.propertyinjector.annotations.PropertyPrefix;
+
+public class Model21 {
+
+	@Property(name = "test.found.string")
+	private String foundString;
+	@PropertyPrefix("test")
+	private Model22 nested;
+
+	public String getFoundString() {
+		return foundString;
+	}
+
+	public Model22 getNested() {
+		return nested;
+	}
+
+	@Override
+	public String toString() {
+		return "Model21 [foundString=" + foundString + ", nested=" + nested + "]";
+	}
+
+}
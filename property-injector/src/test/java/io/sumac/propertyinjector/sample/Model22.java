@@ -0,0 +1,26 @@
+package io.sumac.propertyinjector.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+import io.sumac.propertyinjector.annotations.PropertyPrefix;
+
+public class Model22 {
+
+	@Property(name = "found.int")
+	private int foundIntegerPrimitive;
+	@PropertyPrefix("found")
+	private Model23 found = new Model23();
+
+	public int getFoundIntegerPrimitive() {
+		return foundIntegerPrimitive;
+	}
+
+	public Model23 getFound() {
+		return found;
+	}
+
+	@Override
+	public String toString() {
+		return "Model22 [foundIntegerPrimitive=" + foundIntegerPrimitive + ", found=" + found + "]";
+	}
+
+}
@@ -0,0 +1,29 @@
+package io.sumac.propertyinjector.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+public class Model23 {
+
+	@Property(name = "long")
+	private Long foundLong;
+	private boolean foundBooleanPrimitive;
+
+	public Long getFoundLong() {
+		return foundLong;
+	}
+
+	public boolean getFoundBooleanPrimitive() {
+		return foundBooleanPrimitive;
+	}
+
+	@Property(name = "boolean")
+	public void setFoundBooleanPrimitive(boolean foundBooleanPrimitive) {
+		this.foundBooleanPrimitive = foundBooleanPrimitive;
+	}
+
+	@Override
+	public String toString() {
+		return "Model23 [foundLong=" + foundLong + ", foundBooleanPrimitive=" + foundBooleanPrimitive + "]";
+	}
+
+}
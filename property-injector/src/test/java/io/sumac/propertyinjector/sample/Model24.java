@@ -0,0 +1,14 @@
+package io.sumac.propertyinjector.sample;
+
+import io.sumac.propertyinjector.annotations.PropertyPrefix;
+
+public class Model24 {
+
+	@PropertyPrefix("test.found")
+	private String foundString;
+
+	public String getFoundString() {
+		return foundString;
+	}
+
+}
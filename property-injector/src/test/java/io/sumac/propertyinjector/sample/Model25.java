@@ -0,0 +1,59 @@
+package io.sumac.propertyinjector.sample;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+public class Model25 {
+
+	@Property(name = "test.strings")
+	private List<String> strings;
+	@Property(name = "test.set")
+	private Set<String> set;
+	@Property(name = "test.integers")
+	private List<Integer> integers;
+	@Property(name = "test.ints")
+	private int[] ints;
+	@Property(name = "test.not_found.longs", optional = true)
+	private long[] notFoundLongs;
+	private long[] longs;
+
+	public List<String> getStrings() {
+		return strings;
+	}
+
+	public Set<String> getSet() {
+		return set;
+	}
+
+	public List<Integer> getIntegers() {
+		return integers;
+	}
+
+	public int[] getInts() {
+		return ints;
+	}
+
+	public long[] getNotFoundLongs() {
+		return notFoundLongs;
+	}
+
+	public long[] getLongs() {
+		return longs;
+	}
+
+	@Property(name = "test.longs")
+	public void setLongs(long[] longs) {
+		this.longs = longs;
+	}
+
+	@Override
+	public String toString() {
+		return "Model25 [strings=" + strings + ", set=" + set + ", integers=" + integers + ", ints="
+				+ Arrays.toString(ints) + ", notFoundLongs=" + Arrays.toString(notFoundLongs) + ", longs="
+				+ Arrays.toString(longs) + "]";
+	}
+
+}
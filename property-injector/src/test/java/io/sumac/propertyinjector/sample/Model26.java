@@ -0,0 +1,16 @@
+package io.sumac.propertyinjector.sample;
+
+import java.util.List;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+public class Model26 {
+
+	@Property(name = "test.found.string")
+	private List<Object> objects;
+
+	public List<Object> getObjects() {
+		return objects;
+	}
+
+}
@@ -0,0 +1,48 @@
+package io.sumac.propertyinjector.sample;
+
+import java.net.URI;
+import java.time.Duration;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+public class Model27 {
+
+	private final Duration timeout;
+	@Property(name = "test.address")
+	private HostAndPort address;
+	@Property(name = "test.not_found.timeout", optional = true)
+	private Duration notFoundTimeout;
+	private URI uri;
+
+	public Model27(@Property(name = "test.timeout") Duration timeout) {
+		this.timeout = timeout;
+	}
+
+	public Duration getTimeout() {
+		return timeout;
+	}
+
+	public HostAndPort getAddress() {
+		return address;
+	}
+
+	public Duration getNotFoundTimeout() {
+		return notFoundTimeout;
+	}
+
+	public URI getUri() {
+		return uri;
+	}
+
+	@Property(name = "test.uri")
+	public void setUri(URI uri) {
+		this.uri = uri;
+	}
+
+	@Override
+	public String toString() {
+		return "Model27 [timeout=" + timeout + ", address=" + address + ", notFoundTimeout=" + notFoundTimeout
+				+ ", uri=" + uri + "]";
+	}
+
+}
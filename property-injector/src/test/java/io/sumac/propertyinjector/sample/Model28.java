@@ -0,0 +1,40 @@
+package io.sumac.propertyinjector.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+public class Model28 {
+
+	@Property(name = "test.found.string")
+	private String foundString;
+	private int foundIntegerPrimitive;
+	private int setterCalls;
+
+	public String getFoundString() {
+		return foundString;
+	}
+
+	public void setFoundString(String foundString) {
+		this.foundString = foundString;
+	}
+
+	public int getFoundIntegerPrimitive() {
+		return foundIntegerPrimitive;
+	}
+
+	@Property(name = "test.found.int")
+	public void setFoundIntegerPrimitive(int foundIntegerPrimitive) {
+		this.foundIntegerPrimitive = foundIntegerPrimitive;
+		setterCalls++;
+	}
+
+	public int getSetterCalls() {
+		return setterCalls;
+	}
+
+	@Override
+	public String toString() {
+		return "Model28 [foundString=" + foundString + ", foundIntegerPrimitive=" + foundIntegerPrimitive
+				+ ", setterCalls=" + setterCalls + "]";
+	}
+
+}
@@ -0,0 +1,62 @@
+package io.sumac.propertyinjector.sample;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import io.sumac.propertyinjector.Lazy;
+import io.sumac.propertyinjector.annotations.Property;
+
+public class Model29 {
+
+	private final Supplier<Long> foundLong;
+	@Property(name = "test.found.string")
+	private Supplier<String> foundString;
+	@Property(name = "test.found.int")
+	private Lazy<Integer> foundInteger;
+	@Property(name = "test.not_found.string")
+	private Supplier<String> notFoundString;
+	@Property(name = "test.not_found.int", optional = true)
+	private Supplier<Integer> optionalInteger;
+	private Supplier<List<Integer>> integers;
+
+	public Model29(@Property(name = "test.found.long") Supplier<Long> foundLong) {
+		this.foundLong = foundLong;
+	}
+
+	public Supplier<Long> getFoundLong() {
+		return foundLong;
+	}
+
+	public Supplier<String> getFoundString() {
+		return foundString;
+	}
+
+	public Lazy<Integer> getFoundInteger() {
+		return foundInteger;
+	}
+
+	public Supplier<String> getNotFoundString() {
+		return notFoundString;
+	}
+
+	public Supplier<Integer> getOptionalInteger() {
+		return optionalInteger;
+	}
+
+	public Supplier<List<Integer>> getIntegers() {
+		return integers;
+	}
+
+	@Property(name = "test.integers")
+	public void setIntegers(Supplier<List<Integer>> integers) {
+		this.integers = integers;
+	}
+
+	@Override
+	public String toString() {
+		return "Model29 [foundLong=" + foundLong + ", foundString=" + foundString + ", foundInteger=" + foundInteger
+				+ ", notFoundString=" + notFoundString + ", optionalInteger=" + optionalInteger + ", integers="
+				+ integers + "]";
+	}
+
+}
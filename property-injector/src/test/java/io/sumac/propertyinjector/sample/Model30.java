@@ -0,0 +1,16 @@
+package io.sumac.propertyinjector.sample;
+
+import java.util.function.Supplier;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+public class Model30 {
+
+	@Property(name = "test.found.string")
+	private Supplier<Supplier<String>> foundString;
+
+	public Supplier<Supplier<String>> getFoundString() {
+		return foundString;
+	}
+
+}
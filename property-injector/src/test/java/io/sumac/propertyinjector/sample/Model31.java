@@ -0,0 +1,42 @@
+package io.sumac.propertyinjector.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+public class Model31 {
+
+	@Property(name = "test.found.string")
+	private String foundString;
+
+	private Integer foundInteger;
+
+	private Double foundDouble;
+
+	public String getFoundString() {
+		return foundString;
+	}
+
+	public Integer getFoundInteger() {
+		return foundInteger;
+	}
+
+	@Property(name = "test.found.int")
+	public void setFoundInteger(Integer foundInteger) {
+		this.foundInteger = foundInteger;
+	}
+
+	public Double getFoundDouble() {
+		return foundDouble;
+	}
+
+	@Property(name = "test.found.double")
+	public void setFoundDouble(Double foundDouble) {
+		this.foundDouble = foundDouble;
+	}
+
+	@Override
+	public String toString() {
+		return "Model31 [foundString=" + foundString + ", foundInteger=" + foundInteger + ", foundDouble="
+				+ foundDouble + "]";
+	}
+
+}
@@ -0,0 +1,19 @@
+package io.sumac.propertyinjector.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+public class Model32 extends Model31 {
+
+	@Property(name = "test.found.long")
+	protected Long foundLong;
+
+	public Long getFoundLong() {
+		return foundLong;
+	}
+
+	@Override
+	public String toString() {
+		return "Model32 [foundLong=" + foundLong + ", " + super.toString() + "]";
+	}
+
+}
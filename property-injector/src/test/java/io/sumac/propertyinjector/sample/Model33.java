@@ -0,0 +1,30 @@
+package io.sumac.propertyinjector.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+public class Model33 extends Model32 {
+
+	private boolean overridden;
+
+	@Override
+	public void setFoundInteger(Integer foundInteger) {
+		overridden = true;
+		super.setFoundInteger(foundInteger);
+	}
+
+	@Override
+	@Property(name = "test.found.float")
+	public void setFoundDouble(Double foundDouble) {
+		super.setFoundDouble(foundDouble);
+	}
+
+	public boolean isOverridden() {
+		return overridden;
+	}
+
+	@Override
+	public String toString() {
+		return "Model33 [overridden=" + overridden + ", " + super.toString() + "]";
+	}
+
+}
@@ -0,0 +1,19 @@
+package io.sumac.propertyinjector.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+public class Model34 extends Model33 {
+
+	@Property(name = "test.found.boolean")
+	private String foundString;
+
+	public String getShadowingString() {
+		return foundString;
+	}
+
+	@Override
+	public String toString() {
+		return "Model34 [foundString=" + foundString + ", " + super.toString() + "]";
+	}
+
+}
@@ -0,0 +1,19 @@
+package io.sumac.propertyinjector.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+public class Model35 extends Model34 {
+
+	@Property(name = "test.found.float")
+	private float foundFloat;
+
+	public float getFoundFloat() {
+		return foundFloat;
+	}
+
+	@Override
+	public String toString() {
+		return "Model35 [foundFloat=" + foundFloat + ", " + super.toString() + "]";
+	}
+
+}
@@ -0,0 +1,64 @@
+package io.sumac.propertyinjector.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+public class Model36 {
+
+	@Property(name = "test.found.string")
+	private String foundString;
+
+	private Integer foundInteger;
+
+	private Double foundDouble;
+
+	@Property(name = "test.found.long")
+	private Long foundLong;
+
+	@Property(name = "test.found.boolean")
+	private String shadowingString;
+
+	@Property(name = "test.found.float")
+	private float foundFloat;
+
+	public String getFoundString() {
+		return foundString;
+	}
+
+	public Integer getFoundInteger() {
+		return foundInteger;
+	}
+
+	@Property(name = "test.found.int")
+	public void setFoundInteger(Integer foundInteger) {
+		this.foundInteger = foundInteger;
+	}
+
+	public Double getFoundDouble() {
+		return foundDouble;
+	}
+
+	@Property(name = "test.found.float")
+	public void setFoundDouble(Double foundDouble) {
+		this.foundDouble = foundDouble;
+	}
+
+	public Long getFoundLong() {
+		return foundLong;
+	}
+
+	public String getShadowingString() {
+		return shadowingString;
+	}
+
+	public float getFoundFloat() {
+		return foundFloat;
+	}
+
+	@Override
+	public String toString() {
+		return "Model36 [foundString=" + foundString + ", foundInteger=" + foundInteger + ", foundDouble="
+				+ foundDouble + ", foundLong=" + foundLong + ", shadowingString=" + shadowingString + ", foundFloat="
+				+ foundFloat + "]";
+	}
+
+}
@@ -0,0 +1,49 @@
+package io.sumac.propertyinjector.sample;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import io.sumac.propertyinjector.DataSize;
+import io.sumac.propertyinjector.annotations.Property;
+
+public class Model37 {
+
+	public enum Mode {
+		ACTIVE, STANDBY, READ_ONLY
+	}
+
+	@Property(name = "test.timeout")
+	private Duration timeout;
+	@Property(name = "test.buffer")
+	private DataSize buffer;
+	@Property(name = "test.mode")
+	private Mode mode;
+	private TimeUnit unit;
+
+	public Duration getTimeout() {
+		return timeout;
+	}
+
+	public DataSize getBuffer() {
+		return buffer;
+	}
+
+	public Mode getMode() {
+		return mode;
+	}
+
+	public TimeUnit getUnit() {
+		return unit;
+	}
+
+	@Property(name = "test.unit")
+	public void setUnit(TimeUnit unit) {
+		this.unit = unit;
+	}
+
+	@Override
+	public String toString() {
+		return "Model37 [timeout=" + timeout + ", buffer=" + buffer + ", mode=" + mode + ", unit=" + unit + "]";
+	}
+
+}
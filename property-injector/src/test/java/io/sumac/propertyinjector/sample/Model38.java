@@ -0,0 +1,20 @@
+package io.sumac.propertyinjector.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+import io.sumac.propertyinjector.annotations.PropertyPrefix;
+
+public class Model38 {
+
+	@Property(name = "name", optional = true)
+	private String name;
+	@PropertyPrefix("child")
+	private Model38 child;
+
+	public String getName() {
+		return name;
+	}
+
+	public Model38 getChild() {
+		return child;
+	}
+}
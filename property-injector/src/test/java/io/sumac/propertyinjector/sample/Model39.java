@@ -0,0 +1,19 @@
+package io.sumac.propertyinjector.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+public class Model39 {
+
+	static boolean injectorInitialized;
+
+	@Property(name = "test.found.string")
+	private String foundString;
+
+	public String getFoundString() {
+		return foundString;
+	}
+
+	public static boolean isInjectorInitialized() {
+		return injectorInitialized;
+	}
+}
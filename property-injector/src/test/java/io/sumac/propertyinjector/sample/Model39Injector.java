@@ -0,0 +1,8 @@
+package io.sumac.propertyinjector.sample;
+
+public class Model39Injector {
+
+	static {
+		Model39.injectorInitialized = true;
+	}
+}
@@ -0,0 +1,13 @@
+package io.sumac.propertyinjector.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+
+public class Model40 {
+
+	@Property(name = "int")
+	int foundIntegerPrimitive;
+
+	public int getFoundIntegerPrimitive() {
+		return foundIntegerPrimitive;
+	}
+}
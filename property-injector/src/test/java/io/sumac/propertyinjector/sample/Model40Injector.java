@@ -0,0 +1,28 @@
+package io.sumac.propertyinjector.sample;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.sumac.propertyinjector.GeneratedInjector;
+import io.sumac.propertyinjector.PropertySource;
+
+public final class Model40Injector extends GeneratedInjector<Model40> {
+
+	public static final AtomicInteger CREATED = new AtomicInteger();
+
+	public Model40Injector() {
+		super(Model40.class);
+	}
+
+	@Override
+	public Model40 newInstance(PropertySource source) {
+		CREATED.incrementAndGet();
+		Model40 obj = new Model40();
+		fillIn(obj, source);
+		return obj;
+	}
+
+	@Override
+	public void fillIn(Model40 obj, PropertySource source) {
+		obj.foundIntegerPrimitive = intValue(source, "int");
+	}
+}
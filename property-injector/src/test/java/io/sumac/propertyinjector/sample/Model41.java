@@ -0,0 +1,20 @@
+package io.sumac.propertyinjector.sample;
+
+import io.sumac.propertyinjector.annotations.Property;
+import io.sumac.propertyinjector.annotations.PropertyPrefix;
+
+public class Model41 {
+
+	@Property(name = "test.found.string")
+	private String foundString;
+	@PropertyPrefix("test.found")
+	private Model40 nested;
+
+	public String getFoundString() {
+		return foundString;
+	}
+
+	public Model40 getNested() {
+		return nested;
+	}
+}